@@ -0,0 +1,84 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import javafx.application.Platform;
+import org.testfx.api.FxToolkit;
+
+
+/**
+ * Starts the JavaFX toolkit (headless when run through the {@code jmh}
+ * Maven profile) and runs benchmark code on the JavaFX Application Thread.
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class FxBenchmarkSupport {
+
+    /**
+     * Start the JavaFX toolkit, if not already started.
+     *
+     * @throws TimeoutException If the toolkit was not started in time.
+     */
+    static void startToolkit() throws TimeoutException {
+        FxToolkit.registerPrimaryStage();
+    }
+
+    /**
+     * Run the given {@code action} on the JavaFX Application Thread, waiting
+     * for its completion.
+     *
+     * @param action The code to be run.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    static void runOnFx( final Runnable action ) throws InterruptedException {
+
+        if ( Platform.isFxApplicationThread() ) {
+            action.run();
+            return;
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch ( RuntimeException ex ) {
+                failure.set(ex);
+            } finally {
+                latch.countDown();
+            }
+        });
+
+        latch.await();
+
+        if ( failure.get() != null ) {
+            throw failure.get();
+        }
+
+    }
+
+    private FxBenchmarkSupport() {
+    }
+
+}
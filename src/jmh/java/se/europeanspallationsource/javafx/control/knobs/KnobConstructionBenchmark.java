@@ -0,0 +1,97 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Cost of creating a {@link Knob}, directly, through {@link KnobBuilder} and
+ * through a reused {@link KnobSpec}. Only the construction is measured, not
+ * the background initialization.
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@State( Scope.Benchmark )
+@SuppressWarnings( "ClassWithoutLogger" )
+public class KnobConstructionBenchmark {
+
+    private KnobSpec spec;
+
+    @Setup
+    public void setup() throws TimeoutException {
+
+        FxBenchmarkSupport.startToolkit();
+
+        spec = configure(KnobSpec.builder()).build();
+
+    }
+
+    @Benchmark
+    public Knob builderBuild() {
+        return configure(KnobBuilder.create()).build();
+    }
+
+    @Benchmark
+    public Knob constructor() {
+        return new Knob();
+    }
+
+    @Benchmark
+    public Knob specNewKnob() {
+        return spec.newKnob();
+    }
+
+    private static KnobBuilder configure( final KnobBuilder builder ) {
+        return builder
+            .minValue(-50)
+            .maxValue(50)
+            .currentValue(12.5)
+            .targetValue(20)
+            .decimals(1)
+            .unit("mA")
+            .color(Color.DARKSLATEGRAY)
+            .gradientStops(new Stop(0, Color.BLUE), new Stop(1, Color.RED));
+    }
+
+    private static KnobSpec.Builder configure( final KnobSpec.Builder builder ) {
+        return builder
+            .minValue(-50)
+            .maxValue(50)
+            .currentValue(12.5)
+            .targetValue(20)
+            .decimals(1)
+            .unit("mA")
+            .color(Color.DARKSLATEGRAY)
+            .gradientStops(new Stop(0, Color.BLUE), new Stop(1, Color.RED));
+    }
+
+}
@@ -0,0 +1,156 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.concurrent.TimeUnit;
+import javafx.beans.binding.Bindings;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static se.europeanspallationsource.javafx.control.knobs.Knob.ANGLE_RANGE;
+import static se.europeanspallationsource.javafx.control.knobs.Knob.BAR_START_ANGLE;
+
+
+/**
+ * Cost of computing the current value bar and indicator angles after a
+ * current and target value change: the binding graph formerly used by
+ * {@link Knob} (reproduced here on standalone properties) versus
+ * {@link KnobValueGeometry}. No JavaFX toolkit is needed.
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Thread )
+@SuppressWarnings( "ClassWithoutLogger" )
+public class KnobGeometryBenchmark {
+
+    private DoubleBinding angleStep;
+    private DoubleBinding arcLength;
+    private DoubleBinding arcOpacity;
+    private DoubleBinding arcStart;
+    private final DoubleProperty currentValue = new SimpleDoubleProperty(0);
+    private final KnobValueGeometry geometry = new KnobValueGeometry();
+    private DoubleBinding indicatorAngle;
+    private final DoubleProperty maxValue = new SimpleDoubleProperty(100);
+    private final DoubleProperty minValue = new SimpleDoubleProperty(-100);
+    private final DoubleProperty targetValue = new SimpleDoubleProperty(0);
+    private double value;
+    private final BooleanProperty zeroDetentEnabled = new SimpleBooleanProperty(true);
+
+    @Setup
+    public void setup() {
+
+        angleStep = Bindings.createDoubleBinding(
+            () -> ANGLE_RANGE / ( maxValue.get() - minValue.get() ),
+            maxValue,
+            minValue
+        );
+        arcLength = Bindings.createDoubleBinding(() -> {
+
+                double localMin = ( zeroDetentEnabled.get() && minValue.get() < 0 ) ? Math.min(0, maxValue.get()) : minValue.get();
+                double length = angleStep.get() * ( localMin - currentValue.get() );
+
+                if ( length == 0 ) {
+                    length = angleStep.get() * ( minValue.get() - maxValue.get() ) / 10000;
+                }
+
+                return length;
+
+            },
+            angleStep,
+            currentValue,
+            maxValue,
+            minValue,
+            zeroDetentEnabled
+        );
+        arcOpacity = Bindings.createDoubleBinding(() -> {
+
+                double localMin = ( zeroDetentEnabled.get() && minValue.get() < 0 ) ? Math.min(0, maxValue.get()) : minValue.get();
+                double length = angleStep.get() * ( localMin - currentValue.get() );
+
+                return ( length == 0 ) ? 0.6666 : 1.0;
+
+            },
+            angleStep,
+            currentValue,
+            maxValue,
+            minValue,
+            zeroDetentEnabled
+        );
+        arcStart = Bindings.createDoubleBinding(() -> {
+
+                double angle = BAR_START_ANGLE;
+
+                if ( zeroDetentEnabled.get() && minValue.get() < 0 ) {
+                    angle += Math.max(angleStep.get() * minValue.get(), - ANGLE_RANGE);
+                }
+
+                return angle;
+
+            },
+            angleStep,
+            minValue,
+            zeroDetentEnabled
+        );
+        indicatorAngle = (DoubleBinding) Bindings.subtract(Bindings.multiply(Bindings.subtract(targetValue, minValue), angleStep), ANGLE_RANGE * 0.5);
+
+    }
+
+    @Benchmark
+    public double bindings() {
+
+        nextValue();
+
+        currentValue.set(value);
+        targetValue.set(- value);
+
+        return arcLength.get() + arcOpacity.get() + arcStart.get() + indicatorAngle.get();
+
+    }
+
+    @Benchmark
+    public double geometry() {
+
+        nextValue();
+
+        currentValue.set(value);
+        targetValue.set(- value);
+
+        geometry.compute(minValue.get(), maxValue.get(), currentValue.get(), targetValue.get(), zeroDetentEnabled.get());
+
+        return geometry.arcLength + geometry.arcOpacity + geometry.arcStart + geometry.indicatorAngle;
+
+    }
+
+    private void nextValue() {
+        value = ( value >= 100 ) ? -100 : value + 0.5;
+    }
+
+}
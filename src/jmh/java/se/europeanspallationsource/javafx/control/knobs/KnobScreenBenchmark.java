@@ -0,0 +1,353 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import com.sun.javafx.perf.PerformanceTracker;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.FlowPane;
+import javafx.stage.Stage;
+import org.testfx.api.FxToolkit;
+
+
+/**
+ * Scene-level benchmark: builds screens of N knobs in a {@link FlowPane}, the
+ * way the test {@code KnobController} does, drives their current values at a
+ * given rate, and reports, for each N, the pulse duration percentiles, the
+ * time split among value updates, CSS, layout, synchronization, rendering
+ * and idle time, and the heap allocated per frame on the JavaFX Application
+ * Thread.
+ * <p>
+ * A pulse starts when the animation timers are run, and ends when its frame
+ * is rendered, as notified by the scene {@link PerformanceTracker}, or when
+ * the JavaFX Application Thread is done with it, if nothing was rendered.
+ * Synchronization is the time left on the JavaFX Application Thread after
+ * layout, rendering the time from there to the end of the frame, and idle
+ * time the rest of the pulse interval.</p>
+ * <p>
+ * It runs headless through the {@code jmh} Maven profile:</p>
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec@screen [-Dscreen.args="..."]</pre>
+ * <p>
+ * Configuration is read from system properties (or {@code key=value}
+ * arguments):</p>
+ * <ul>
+ * <li><b>knobs</b>: comma-separated knob counts (default
+ * {@code 25,50,100,200,400,800});</li>
+ * <li><b>rate</b>: current value updates per knob per second (default
+ * {@code 10});</li>
+ * <li><b>size</b>: knob size in pixels (default {@code 80});</li>
+ * <li><b>frames</b>: measured frames for each knob count (default
+ * {@code 600}), after {@code frames / 5} warm-up ones;</li>
+ * <li><b>mode</b>: the knob {@link Knob.RenderingMode} (default
+ * {@code NODES}).</li>
+ * </ul>
+ * <p>
+ * A screen sustains 60 fps while the 99th percentile of the pulse duration
+ * stays below 16.7 ms, the difference being the available headroom.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+public final class KnobScreenBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main( String[] args ) throws TimeoutException, InterruptedException {
+
+        for ( String arg : args ) {
+
+            int index = arg.indexOf('=');
+
+            if ( index > 0 ) {
+                System.setProperty(arg.substring(0, index), arg.substring(index + 1));
+            }
+
+        }
+
+        final int[] counts = Arrays.stream(System.getProperty("knobs", "25,50,100,200,400,800").split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+        final double rate = Double.parseDouble(System.getProperty("rate", "10"));
+        final double size = Double.parseDouble(System.getProperty("size", "80"));
+        final int frames = Integer.getInteger("frames", 600);
+        final Knob.RenderingMode mode = Knob.RenderingMode.valueOf(System.getProperty("mode", "NODES"));
+        final Stage stage = FxToolkit.registerPrimaryStage();
+        final FlowPane container = new FlowPane();
+
+        FxBenchmarkSupport.runOnFx(() -> {
+            stage.setScene(new Scene(container, 1600, 1200));
+            stage.show();
+        });
+
+        System.out.printf("Knobs: %s, mode: %s, size: %.0f px, rate: %.1f updates/s/knob, %d frames%n", Arrays.toString(counts), mode, size, rate, frames);
+        System.out.println();
+        System.out.println("    N   p50 ms   p90 ms   p99 ms   max ms  values ms     css ms  layout ms    sync ms  render ms    idle ms  alloc KB/frame");
+
+        for ( int count : counts ) {
+
+            final KnobSpec spec = KnobSpec.builder()
+                .renderingMode(mode)
+                .prefSize(size, size)
+                .minSize(size, size)
+                .maxSize(size, size)
+                .build();
+            final List<Knob> knobs = new ArrayList<>(count);
+
+            for ( int i = 0; i < count; i++ ) {
+                knobs.add(spec.newKnob());
+            }
+
+            if ( !Knob.awaitInitialization(knobs, 1, TimeUnit.MINUTES) ) {
+                throw new IllegalStateException("Knobs not initialized.");
+            }
+
+            FxBenchmarkSupport.runOnFx(() -> container.getChildren().setAll(knobs));
+
+            final Sampler sampler = new Sampler(container, knobs, rate, frames / 5, frames);
+
+            FxBenchmarkSupport.runOnFx(sampler::start);
+            sampler.await();
+
+            sampler.report(count);
+
+        }
+
+        FxBenchmarkSupport.runOnFx(stage::hide);
+        System.exit(0);
+
+    }
+
+    private KnobScreenBenchmark() {
+    }
+
+    /**
+     * Collects per-frame measures from an {@link AnimationTimer}.
+     */
+    private static final class Sampler extends AnimationTimer {
+
+        private final long[] allocated;
+        private long allocatedBefore = -1;
+        private final long[] css;
+        private final FlowPane container;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private int frame = 0;
+        private final long[] fxEnds;
+        private final long[] intervals;
+        private final List<Knob> knobs;
+        private final long[] layout;
+        private final long[] layoutEnds;
+        private long lastPulse = -1;
+        private int nextKnob = 0;
+        private double pendingUpdates = 0;
+        private final long[] renderEnds;
+        private volatile int rendered = 0;
+        private final long[] starts;
+        private final double updatesPerFrame;
+        private double value = 0;
+        private final long[] values;
+        private final int warmup;
+
+        Sampler( final FlowPane container, final List<Knob> knobs, final double rate, final int warmup, final int frames ) {
+
+            this.allocated = new long[frames];
+            this.container = container;
+            this.css = new long[frames];
+            this.fxEnds = new long[frames];
+            this.intervals = new long[frames];
+            this.knobs = knobs;
+            this.layout = new long[frames];
+            this.layoutEnds = new long[frames];
+            this.renderEnds = new long[2 * ( warmup + frames + 2 )];
+            this.starts = new long[frames];
+            this.updatesPerFrame = knobs.size() * rate / 60.0;
+            this.values = new long[frames];
+            this.warmup = warmup;
+
+        }
+
+        @Override
+        public void handle( final long now ) {
+
+            long start = System.nanoTime();
+
+            final long threadId = Thread.currentThread().getId();
+            final long allocatedNow = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+            final int index = frame - warmup;
+
+            if ( index >= 0 && index < intervals.length ) {
+                intervals[index] = now - lastPulse;
+                allocated[index] = allocatedNow - allocatedBefore;
+            }
+
+            lastPulse = now;
+            allocatedBefore = allocatedNow;
+
+            //  One more frame is waited, so that the last measured one is
+            //  rendered before reporting.
+            if ( index > intervals.length ) {
+                stop();
+                PerformanceTracker.releaseSceneTracker(container.getScene());
+                done.countDown();
+                return;
+            } else if ( index == intervals.length ) {
+                frame++;
+                return;
+            }
+
+            //  Current value updates, round-robin among the knobs.
+            pendingUpdates += updatesPerFrame;
+
+            while ( pendingUpdates >= 1 ) {
+
+                Knob knob = knobs.get(nextKnob);
+
+                value = ( value + 0.37 ) % 100;
+
+                knob.setCurrentValue(value);
+
+                nextKnob = ( nextKnob + 1 ) % knobs.size();
+                pendingUpdates--;
+
+            }
+
+            //  CSS and layout are performed here, to be timed: the pulse will
+            //  find nothing left to do.
+            long afterValues = System.nanoTime();
+
+            container.applyCss();
+
+            long afterCss = System.nanoTime();
+
+            container.layout();
+
+            long afterLayout = System.nanoTime();
+
+            if ( index >= 0 ) {
+
+                starts[index] = start;
+                values[index] = afterValues - start;
+                css[index] = afterCss - afterValues;
+                layout[index] = afterLayout - afterCss;
+                layoutEnds[index] = afterLayout;
+
+                //  Runnables posted during a pulse are run after it, once the
+                //  scene was synchronized with the render thread.
+                Platform.runLater(() -> fxEnds[index] = System.nanoTime());
+
+            }
+
+            frame++;
+
+        }
+
+        @Override
+        public void start() {
+
+            //  Called on the render thread, the only writer of renderEnds,
+            //  when a frame is rendered.
+            PerformanceTracker.getSceneTracker(container.getScene()).setOnRenderedFrameTask(() -> {
+                if ( rendered < renderEnds.length ) {
+                    renderEnds[rendered] = System.nanoTime();
+                    rendered++;
+                }
+            });
+
+            super.start();
+
+        }
+
+        void await() throws InterruptedException {
+            done.await();
+        }
+
+        void report( final int count ) {
+
+            final int frames = starts.length;
+            final long[] durations = new long[frames];
+            final long[] idle = new long[frames];
+            final long[] render = new long[frames];
+            final long[] sync = new long[frames];
+            final int renderCount = rendered;
+            int cursor = 0;
+
+            for ( int i = 0; i < frames; i++ ) {
+
+                //  Frames are rendered in order, each after the layout of its
+                //  pulse, and before the layout of the next pulse; pulses
+                //  with nothing to render end on the JavaFX thread.
+                long end = fxEnds[i];
+
+                while ( cursor < renderCount && renderEnds[cursor] <= layoutEnds[i] ) {
+                    cursor++;
+                }
+
+                if ( cursor < renderCount && ( i + 1 == frames || renderEnds[cursor] <= layoutEnds[i + 1] ) ) {
+                    end = Math.max(end, renderEnds[cursor]);
+                    cursor++;
+                }
+
+                durations[i] = end - starts[i];
+                sync[i] = fxEnds[i] - layoutEnds[i];
+                render[i] = end - fxEnds[i];
+
+                //  The interval following the pulse.
+                idle[i] = Math.max(0, ( ( i + 1 < frames ) ? intervals[i + 1] : intervals[i] ) - durations[i]);
+
+            }
+
+            final long[] sorted = durations.clone();
+
+            Arrays.sort(sorted);
+
+            System.out.printf(
+                "%5d %8.2f %8.2f %8.2f %8.2f %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f %15.1f%n",
+                count,
+                percentile(sorted, 0.50) / 1E6,
+                percentile(sorted, 0.90) / 1E6,
+                percentile(sorted, 0.99) / 1E6,
+                sorted[sorted.length - 1] / 1E6,
+                mean(values) / 1E6,
+                mean(css) / 1E6,
+                mean(layout) / 1E6,
+                mean(sync) / 1E6,
+                mean(render) / 1E6,
+                mean(idle) / 1E6,
+                mean(allocated) / 1024.0
+            );
+
+        }
+
+        private static double mean( final long[] samples ) {
+            return Arrays.stream(samples).average().orElse(0);
+        }
+
+        private static long percentile( final long[] sorted, final double p ) {
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import eu.hansolo.medusa.Fonts;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javafx.scene.paint.Stop;
+import javafx.scene.text.Text;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Cost of the helpers used when knob texts and gradient change: stop
+ * reordering, value formatting and text fitting.
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Thread )
+@SuppressWarnings( "ClassWithoutLogger" )
+public class KnobTextBenchmark {
+
+    /**
+     * Number of precomputed values, a power of 2.
+     */
+    private static final int VALUES = 1024;
+
+    /**
+     * Number of precomputed widths, a power of 2 greater than the
+     * {@link FontFitter} cache size, so that cycling through them in order
+     * never hits the cache.
+     */
+    private static final int WIDTHS = 4096;
+
+    @Param( { "0", "2", "6" } )
+    public int decimals;
+
+    private FixedPointFormat format;
+    private int index;
+    private Text text;
+    private final double[] values = new double[VALUES];
+    private final double[] widths = new double[WIDTHS];
+
+    @Setup
+    public void setup() throws TimeoutException {
+
+        FxBenchmarkSupport.startToolkit();
+
+        format = new FixedPointFormat(decimals);
+        text = new Text();
+
+        text.setFont(Fonts.robotoMedium(86));
+
+        final Random random = new Random(20171017L);
+
+        //  Values with 1 to 7 integer digits, both signs.
+        for ( int i = 0; i < VALUES; i++ ) {
+            values[i] = ( random.nextBoolean() ? 1 : -1 ) * Math.pow(10, 7 * random.nextDouble());
+        }
+
+        //  Distinct widths, all narrower than the texts at the maximum size.
+        for ( int i = 0; i < WIDTHS; i++ ) {
+            widths[i] = 40 + 20.0 * i / WIDTHS;
+        }
+
+    }
+
+    /**
+     * Fit a text whose content changes at each call, like the current value
+     * one of a knob with a changing number of digits. The available width
+     * changes too, so that the font size search is always performed.
+     */
+    @Benchmark
+    public double adjustTextSize() {
+
+        index++;
+
+        text.setText(format.format(values[index & ( VALUES - 1 )]));
+
+        return FontFitter.fit(text, widths[index & ( WIDTHS - 1 )], 86, null);
+
+    }
+
+    /**
+     * Fit a text whose content changes at each call in a constant width,
+     * where the {@link FontFitter} cache is hit once all the text lengths
+     * were seen.
+     */
+    @Benchmark
+    public double adjustTextSizeCached() {
+
+        text.setText(format.format(nextValue()));
+
+        return FontFitter.fit(text, 50, 86, null);
+
+    }
+
+    @Benchmark
+    public String fixedPointFormat() {
+        return format.format(nextValue());
+    }
+
+    @Benchmark
+    public List<Stop> reorderStops() {
+        return Knob.reorderStops(Knob.DEFAULT_STOPS);
+    }
+
+    /**
+     * The formatting used before {@link FixedPointFormat}, as a reference.
+     */
+    @Benchmark
+    public String stringFormat() {
+        return String.format("%." + decimals + "f", nextValue());
+    }
+
+    private double nextValue() {
+        return values[index++ & ( VALUES - 1 )];
+    }
+
+}
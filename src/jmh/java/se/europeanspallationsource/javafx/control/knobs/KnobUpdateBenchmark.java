@@ -0,0 +1,109 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Cost of updating an initialized {@link Knob}: current and target value
+ * changes, and resizes at several sizes. Operations are executed in batches
+ * on the JavaFX Application Thread, to amortize the hand-off cost.
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@State( Scope.Thread )
+@SuppressWarnings( "ClassWithoutLogger" )
+public class KnobUpdateBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Param( { "NODES", "CANVAS" } )
+    public Knob.RenderingMode renderingMode;
+
+    @Param( { "64", "200", "400", "1024" } )
+    public int size;
+
+    private Knob knob;
+
+    @Setup
+    public void setup() throws TimeoutException, InterruptedException {
+
+        FxBenchmarkSupport.startToolkit();
+
+        knob = new Knob(renderingMode);
+
+        if ( !Knob.awaitInitialization(Collections.singleton(knob), 10, TimeUnit.SECONDS) ) {
+            throw new IllegalStateException("Knob not initialized.");
+        }
+
+        FxBenchmarkSupport.runOnFx(() -> resizeTo(size));
+
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( BATCH )
+    public void resize() throws InterruptedException {
+        FxBenchmarkSupport.runOnFx(() -> {
+            for ( int i = 0; i < BATCH; i++ ) {
+                //  Alternate sizes, because unchanged sizes are skipped.
+                resizeTo(size + ( i & 1 ));
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( BATCH )
+    public void setCurrentValue() throws InterruptedException {
+        FxBenchmarkSupport.runOnFx(() -> {
+            for ( int i = 0; i < BATCH; i++ ) {
+                knob.setCurrentValue(i % 100 + 0.5);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( BATCH )
+    public void setTargetValue() throws InterruptedException {
+        FxBenchmarkSupport.runOnFx(() -> {
+            for ( int i = 0; i < BATCH; i++ ) {
+                knob.setTargetValue(i % 100 + 0.5);
+            }
+        });
+    }
+
+    private void resizeTo( final double newSize ) {
+        knob.resize(newSize, newSize);
+        knob.layout();
+    }
+
+}
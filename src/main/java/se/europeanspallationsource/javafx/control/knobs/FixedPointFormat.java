@@ -0,0 +1,208 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import javafx.scene.text.Text;
+
+
+/**
+ * A fixed-point number formatter producing the same output of
+ * {@code String.format("%.Nf", value)}, but without parsing the pattern and
+ * allocating a {@link java.util.Formatter} each time.
+ * <p>
+ * Finite values whose scaled magnitude fits a {@code long} are formatted with
+ * integer arithmetic into a reusable buffer. Non-finite or very large values,
+ * and values too close to a rounding tie (e.g. {@code 1.005}), are delegated
+ * to {@link String#format}.</p>
+ * <p>
+ * Instances are immutable but for the internal buffer, used only by
+ * {@link #apply(Text, double)}, which must be called on the JavaFX
+ * Application Thread.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class FixedPointFormat {
+
+    private static final double MAX_SCALED = 1E15;
+    private static final long[] POWERS_OF_TEN = {
+        1L,
+        10L,
+        100L,
+        1000L,
+        10000L,
+        100000L,
+        1000000L
+    };
+
+    private final StringBuilder buffer = new StringBuilder(24);
+    private final char decimalSeparator;
+    private final int decimals;
+    private final String pattern;
+    private final char zeroDigit;
+
+    /**
+     * @param decimals The number of fraction digits, in the [0, 6] range.
+     */
+    FixedPointFormat( final int decimals ) {
+
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT));
+
+        this.decimals = decimals;
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        //  Not MessageFormat, that would use locale digits in the pattern.
+        this.pattern = "%." + decimals + "f";
+        this.zeroDigit = symbols.getZeroDigit();
+
+    }
+
+    /**
+     * Format the given {@code value} into the given {@link Text}, updating it
+     * only if the new string is different from the displayed one.
+     *
+     * @param text  The {@link Text} node to be updated.
+     * @param value The value to be formatted.
+     * @return {@code true} if the {@link Text} content was changed.
+     */
+    boolean apply( final Text text, final double value ) {
+
+        buffer.setLength(0);
+        append(buffer, value);
+
+        if ( contentEquals(buffer, text.getText()) ) {
+            return false;
+        }
+
+        text.setText(buffer.toString());
+
+        return true;
+
+    }
+
+    /**
+     * @param value The value to be formatted.
+     * @return The formatted value.
+     */
+    String format( final double value ) {
+
+        StringBuilder builder = new StringBuilder(24);
+
+        append(builder, value);
+
+        return builder.toString();
+
+    }
+
+    int getDecimals() {
+        return decimals;
+    }
+
+    /**
+     * @param value The value to be rounded.
+     * @return The given {@code value} rounded to the resolution of this
+     *         format, or unchanged if non-finite or too large.
+     */
+    double round( final double value ) {
+
+        final long power = POWERS_OF_TEN[decimals];
+        final double scaled = value * power;
+
+        if ( Double.isNaN(value) || Double.isInfinite(value) || Math.abs(scaled) >= MAX_SCALED ) {
+            return value;
+        }
+
+        return Math.rint(scaled) / power;
+
+    }
+
+    private void append( final StringBuilder builder, final double value ) {
+
+        final long power = POWERS_OF_TEN[decimals];
+        final double scaled = Math.abs(value) * power;
+
+        if ( Double.isNaN(value) || Double.isInfinite(value) || scaled >= MAX_SCALED ) {
+            builder.append(String.format(pattern, value));
+            return;
+        }
+
+        //  Ties (after scaling errors) are decided by String.format, that
+        //  rounds the decimal representation of the value.
+        if ( Math.abs(scaled - Math.floor(scaled) - 0.5) <= 4 * Math.ulp(scaled) ) {
+            builder.append(String.format(pattern, value));
+            return;
+        }
+
+        final long units = Math.round(scaled);
+
+        //  Negative zero is printed with its sign, like String.format does.
+        if ( value < 0 || Double.doubleToRawLongBits(value) == Long.MIN_VALUE ) {
+            builder.append('-');
+        }
+
+        appendDigits(builder, units / power, 1);
+
+        if ( decimals > 0 ) {
+            builder.append(decimalSeparator);
+            appendDigits(builder, units % power, decimals);
+        }
+
+    }
+
+    private void appendDigits( final StringBuilder builder, final long value, final int minDigits ) {
+
+        int digits = 1;
+
+        for ( long v = value / 10; v > 0; v /= 10 ) {
+            digits++;
+        }
+
+        digits = Math.max(digits, minDigits);
+
+        final int start = builder.length();
+
+        builder.setLength(start + digits);
+
+        long v = value;
+
+        for ( int i = digits - 1; i >= 0; i-- ) {
+            builder.setCharAt(start + i, (char) ( zeroDigit + v % 10 ));
+            v /= 10;
+        }
+
+    }
+
+    private static boolean contentEquals( final CharSequence chars, final String string ) {
+
+        if ( string == null || string.length() != chars.length() ) {
+            return false;
+        }
+
+        for ( int i = 0; i < string.length(); i++ ) {
+            if ( string.charAt(i) != chars.charAt(i) ) {
+                return false;
+            }
+        }
+
+        return true;
+
+    }
+
+}
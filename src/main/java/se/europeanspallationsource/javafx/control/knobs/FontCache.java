@@ -0,0 +1,147 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import eu.hansolo.medusa.Fonts;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javafx.scene.text.Font;
+
+
+/**
+ * Process-wide cache of the {@link Font} instances used by the knobs, per
+ * font name and size. Sizes are quantized, rounding them down to the
+ * nearest tenth of a point, so that nearly equal sizes (e.g. the ones tried
+ * by {@link FontFitter}) share the same instance.
+ * <p>
+ * The cache is LRU, and its number of entries is capped by the
+ * <b>{@value #MAX_ENTRIES_PROPERTY}</b> system property (default: 1024).</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class FontCache {
+
+    static final String MAX_ENTRIES_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.fontCacheSize";
+
+    /**
+     * The size quantization step, in points.
+     */
+    static final double QUANTUM = 0.1;
+
+    private static final int MAX_ENTRIES = Integer.getInteger(MAX_ENTRIES_PROPERTY, 1024);
+
+    private static final Map<Key, Font> CACHE = new LinkedHashMap<Key, Font>(64, 0.75f, true) {
+        private static final long serialVersionUID = 6180482915206243733L;
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<Key, Font> eldest ) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    //  Loading the fonts is needed for them to be found by name.
+    private static final String ROBOTO_LIGHT = Fonts.robotoLight(1).getName();
+    private static final String ROBOTO_MEDIUM = Fonts.robotoMedium(1).getName();
+    private static final String ROBOTO_REGULAR = Fonts.robotoRegular(1).getName();
+
+    /**
+     * @param name The font name.
+     * @param size The font size, in points.
+     * @return The font with the given name and the given size rounded down to
+     *         the nearest tenth of a point.
+     */
+    static Font get( final String name, final double size ) {
+
+        final Key key = new Key(name, (long) Math.floor(size / QUANTUM + 1E-6));
+        Font font;
+
+        synchronized ( CACHE ) {
+            font = CACHE.get(key);
+        }
+
+        if ( font == null ) {
+
+            font = new Font(name, key.quanta * QUANTUM);
+
+            synchronized ( CACHE ) {
+
+                final Font cached = CACHE.putIfAbsent(key, font);
+
+                if ( cached != null ) {
+                    font = cached;
+                }
+
+            }
+
+        }
+
+        return font;
+
+    }
+
+    static Font robotoLight( final double size ) {
+        return get(ROBOTO_LIGHT, size);
+    }
+
+    static Font robotoMedium( final double size ) {
+        return get(ROBOTO_MEDIUM, size);
+    }
+
+    static Font robotoRegular( final double size ) {
+        return get(ROBOTO_REGULAR, size);
+    }
+
+    private FontCache() {
+    }
+
+    private static final class Key {
+
+        private final int hash;
+        private final String name;
+        private final long quanta;
+
+        Key( final String name, final long quanta ) {
+            this.name = name;
+            this.quanta = quanta;
+            this.hash = 31 * name.hashCode() + Long.hashCode(quanta);
+        }
+
+        @Override
+        public boolean equals( Object obj ) {
+
+            if ( this == obj ) {
+                return true;
+            } else if ( !( obj instanceof Key ) ) {
+                return false;
+            }
+
+            final Key other = (Key) obj;
+
+            return quanta == other.quanta && name.equals(other.name);
+
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
@@ -0,0 +1,242 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javafx.scene.text.Text;
+
+
+/**
+ * Finds the largest font size allowing a {@link Text} to fit a given width.
+ * <p>
+ * The search starts from the size obtained scaling the maximum one by the
+ * ratio between the available and the measured widths (text width is almost
+ * proportional to the font size), and is refined by a bounded binary search.
+ * Results are memoized, shared by all knobs, per font name, glyph-width
+ * signature of the text, available width and maximum font size.</p>
+ * <p>
+ * Fonts are obtained from the shared {@link FontCache}.</p>
+ * <p>
+ * The glyph-width signature maps all digits to {@code '0'}: Roboto digits
+ * are tabular, so {@code "12.34"} and {@code "56.78"} share the same fitted
+ * size.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class FontFitter {
+
+    private static final double BRACKET = 0.02;
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final int MAX_ITERATIONS = 12;
+    private static final double RESOLUTION = FontCache.QUANTUM;
+
+    private static final Map<Key, Double> CACHE = new LinkedHashMap<Key, Double>(64, 0.75f, true) {
+        private static final long serialVersionUID = 2715370519342283471L;
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<Key, Double> eldest ) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Set the font of the given {@link Text} node to the largest size, not
+     * greater than {@code maxSize}, making its content fit the given width.
+     *
+     * @param text           The {@link Text} node whose font must be set.
+     * @param availableWidth The available width.
+     * @param maxSize        The maximum font size.
+     * @param metrics        The {@link KnobMetrics} recording the fitting,
+     *                       or {@code null}.
+     * @return The font size set.
+     */
+    static double fit( final Text text, final double availableWidth, final double maxSize, final KnobMetrics metrics ) {
+
+        final String fontName = text.getFont().getName();
+        final Key key = new Key(fontName, signature(text.getText()), availableWidth, maxSize);
+        Double fitted;
+        int iterations = 0;
+
+        synchronized ( CACHE ) {
+            fitted = CACHE.get(key);
+        }
+
+        if ( fitted == null ) {
+
+            final int[] counter = new int[1];
+
+            fitted = search(text, fontName, availableWidth, maxSize, counter);
+            iterations = counter[0];
+
+            synchronized ( CACHE ) {
+                CACHE.put(key, fitted);
+            }
+
+        } else {
+            text.setFont(FontCache.get(fontName, fitted));
+        }
+
+        if ( metrics != null ) {
+            metrics.textFitted(iterations);
+        }
+
+        return fitted;
+
+    }
+
+    private static boolean fits( final Text text, final String fontName, final double fontSize, final double availableWidth, final int[] counter ) {
+
+        counter[0]++;
+
+        text.setFont(FontCache.get(fontName, fontSize));
+
+        return text.getLayoutBounds().getWidth() <= availableWidth;
+
+    }
+
+    /**
+     * @param counter Its only element is incremented for each font size tried.
+     */
+    private static double search( final Text text, final String fontName, final double availableWidth, final double maxSize, final int[] counter ) {
+
+        counter[0]++;
+
+        text.setFont(FontCache.get(fontName, maxSize));
+
+        final double width = text.getLayoutBounds().getWidth();
+
+        if ( width <= availableWidth || maxSize <= 0 ) {
+            return maxSize;
+        }
+
+        double guess = maxSize * Math.max(0, availableWidth) / width;
+        double lo;
+        double hi;
+
+        if ( fits(text, fontName, guess, availableWidth, counter) ) {
+            lo = guess;
+            hi = Math.min(maxSize, guess * ( 1 + BRACKET ));
+        } else {
+
+            hi = guess;
+            lo = guess * ( 1 - BRACKET );
+
+            if ( !fits(text, fontName, lo, availableWidth, counter) ) {
+                lo = 0;
+            }
+
+        }
+
+        for ( int i = 0; i < MAX_ITERATIONS && hi - lo > RESOLUTION; i++ ) {
+
+            double mid = ( lo + hi ) * 0.5;
+
+            if ( fits(text, fontName, mid, availableWidth, counter) ) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+
+        }
+
+        text.setFont(FontCache.get(fontName, lo));
+
+        return lo;
+
+    }
+
+    /**
+     * @param string The string whose signature must be computed.
+     * @return The given string with all digits replaced by {@code '0'}, or
+     *         an empty string if {@code null}.
+     */
+    private static String signature( final String string ) {
+
+        if ( string == null ) {
+            return "";
+        }
+
+        final char[] chars = string.toCharArray();
+
+        for ( int i = 0; i < chars.length; i++ ) {
+            if ( Character.isDigit(chars[i]) ) {
+                chars[i] = '0';
+            }
+        }
+
+        return new String(chars);
+
+    }
+
+    private FontFitter() {
+    }
+
+    private static final class Key {
+
+        private final double availableWidth;
+        private final String fontName;
+        private final int hash;
+        private final double maxSize;
+        private final String signature;
+
+        Key( final String fontName, final String signature, final double availableWidth, final double maxSize ) {
+
+            this.availableWidth = availableWidth;
+            this.fontName = fontName;
+            this.maxSize = maxSize;
+            this.signature = signature;
+
+            int h = Objects.hashCode(fontName);
+
+            h = 31 * h + signature.hashCode();
+            h = 31 * h + Double.hashCode(availableWidth);
+            h = 31 * h + Double.hashCode(maxSize);
+
+            this.hash = h;
+
+        }
+
+        @Override
+        public boolean equals( Object obj ) {
+
+            if ( this == obj ) {
+                return true;
+            } else if ( !( obj instanceof Key ) ) {
+                return false;
+            }
+
+            final Key other = (Key) obj;
+
+            return Double.doubleToLongBits(availableWidth) == Double.doubleToLongBits(other.availableWidth)
+                && Double.doubleToLongBits(maxSize) == Double.doubleToLongBits(other.maxSize)
+                && Objects.equals(fontName, other.fontName)
+                && signature.equals(other.signature);
+
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
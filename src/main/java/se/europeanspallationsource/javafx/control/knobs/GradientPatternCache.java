@@ -0,0 +1,150 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import eu.hansolo.medusa.tools.ConicalGradient;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Rectangle;
+
+
+/**
+ * Process-wide cache of the {@link ImagePattern}s generated by
+ * {@link ConicalGradient}, whose image is rendered pixel by pixel. Patterns
+ * are shared by all the knobs, per reordered stop list (see
+ * {@link Knob#reorderStops(java.util.List)}) and integer size.
+ * <p>
+ * The cache is LRU, and its memory is capped (estimated at 4 bytes per
+ * pixel). The cap can be set, in bytes, with the
+ * <b>{@value #MAX_BYTES_PROPERTY}</b> system property (default: 16 MiB).</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class GradientPatternCache {
+
+    static final String MAX_BYTES_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.gradientCacheSize";
+
+    private static final Map<Key, ImagePattern> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+    private static final long MAX_BYTES = Long.getLong(MAX_BYTES_PROPERTY, 16L * 1024L * 1024L);
+
+    private static long bytes = 0;
+
+    /**
+     * Returns the conical gradient pattern for the given stops and size,
+     * generating it if not already cached.
+     *
+     * @param reorderedStops The stops, already reordered by
+     *                       {@link Knob#reorderStops(java.util.List)}.
+     * @param size           The size of the square to be filled, rounded up
+     *                       to the next integer.
+     * @return The gradient pattern.
+     */
+    static ImagePattern get( final List<Stop> reorderedStops, final double size ) {
+
+        final Key key = new Key(reorderedStops, (int) Math.ceil(size));
+        ImagePattern pattern;
+
+        synchronized ( CACHE ) {
+            pattern = CACHE.get(key);
+        }
+
+        if ( pattern == null ) {
+
+            pattern = new ConicalGradient(key.stops).getImagePattern(new Rectangle(0, 0, key.size, key.size));
+
+            synchronized ( CACHE ) {
+                if ( CACHE.put(key, pattern) == null ) {
+                    bytes += bytes(key.size);
+                    evict();
+                }
+            }
+
+        }
+
+        return pattern;
+
+    }
+
+    private static long bytes( final int size ) {
+        return 4L * size * size;
+    }
+
+    /**
+     * Remove the least recently used patterns until the memory cap is
+     * satisfied. The most recently added pattern is always kept.
+     */
+    private static void evict() {
+
+        final Iterator<Key> iterator = CACHE.keySet().iterator();
+
+        while ( bytes > MAX_BYTES && CACHE.size() > 1 && iterator.hasNext() ) {
+
+            bytes -= bytes(iterator.next().size);
+
+            iterator.remove();
+
+        }
+
+    }
+
+    private GradientPatternCache() {
+    }
+
+    private static final class Key {
+
+        private final int hash;
+        private final int size;
+        private final List<Stop> stops;
+
+        Key( final List<Stop> stops, final int size ) {
+
+            this.size = size;
+            this.stops = stops;
+            this.hash = 31 * stops.hashCode() + size;
+
+        }
+
+        @Override
+        public boolean equals( Object obj ) {
+
+            if ( this == obj ) {
+                return true;
+            } else if ( !( obj instanceof Key ) ) {
+                return false;
+            }
+
+            final Key other = (Key) obj;
+
+            return size == other.size && stops.equals(other.stops);
+
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
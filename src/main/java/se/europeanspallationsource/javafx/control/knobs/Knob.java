@@ -17,24 +17,27 @@
 package se.europeanspallationsource.javafx.control.knobs;
 
 
-import eu.hansolo.medusa.Fonts;
-import eu.hansolo.medusa.tools.ConicalGradient;
 import java.awt.Toolkit;
-import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ListProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
@@ -44,15 +47,13 @@ import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.concurrent.Task;
 import javafx.event.EventHandler;
 import javafx.geometry.Bounds;
 import javafx.geometry.Insets;
-import javafx.geometry.Point2D;
 import javafx.geometry.VPos;
-import javafx.scene.CacheHint;
 import javafx.scene.Group;
 import javafx.scene.control.TextField;
+import javafx.scene.image.ImageView;
 import javafx.scene.effect.BlurType;
 import javafx.scene.effect.DropShadow;
 import javafx.scene.effect.InnerShadow;
@@ -71,10 +72,8 @@ import javafx.scene.shape.Arc;
 import javafx.scene.shape.ArcType;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Polygon;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.Shape;
 import javafx.scene.shape.StrokeLineCap;
-import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.scene.transform.Rotate;
 import javafx.scene.transform.Scale;
@@ -82,7 +81,15 @@ import org.controlsfx.control.PopOver;
 
 import static se.europeanspallationsource.javafx.control.knobs.KnobEvent.ADJUSTED;
 import static se.europeanspallationsource.javafx.control.knobs.KnobEvent.ADJUSTING;
+import static se.europeanspallationsource.javafx.control.knobs.KnobEvent.RAMP_STEP;
 import static se.europeanspallationsource.javafx.control.knobs.KnobEvent.TARGET_SET;
+import static se.europeanspallationsource.javafx.control.knobs.PendingUpdates.Update.BACKGROUND;
+import static se.europeanspallationsource.javafx.control.knobs.PendingUpdates.Update.RESIZE;
+import static se.europeanspallationsource.javafx.control.knobs.PendingUpdates.Update.TARGET_TEXT;
+import static se.europeanspallationsource.javafx.control.knobs.PendingUpdates.Update.TEXT;
+import static se.europeanspallationsource.javafx.control.knobs.PendingUpdates.Update.TEXT_MAX;
+import static se.europeanspallationsource.javafx.control.knobs.PendingUpdates.Update.TEXT_MIN;
+import static se.europeanspallationsource.javafx.control.knobs.PendingUpdates.Update.UNIT_TEXT;
 
 
 /**
@@ -114,38 +121,76 @@ public class Knob extends Region {
     public static final double PREFERRED_HEIGHT =  400;
     public static final double PREFERRED_WIDTH  =  400;
 
-    private static final double ANGLE_RANGE      =  280;
-    private static final double BAR_START_ANGLE  = -130;
+    /**
+     * The name of the system property that, when {@code true}, enables
+     * {@link KnobMetrics} for all knobs created afterwards.
+     */
+    public static final String METRICS_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.metrics";
+
+    /**
+     * The name of the system property setting the interval, in milliseconds,
+     * between two steps of the effective setpoint ramps (see
+     * {@link #rampRateProperty()}). The default is {@code 100}, the minimum
+     * {@code 10}.
+     */
+    public static final String RAMP_INTERVAL_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.rampInterval";
+
+    /**
+     * The name of the system property setting the time, in milliseconds, a
+     * resize gesture must be idle before the knob background is rasterized
+     * again at the new size. Meanwhile, the previous image is stretched.
+     * The default, {@code 0}, disables such deferral.
+     */
+    public static final String RESIZE_SETTLE_DELAY_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.resizeSettleDelay";
+
+    static final double ANGLE_RANGE      =  280;
+    static final double BAR_START_ANGLE  = -130;
+
+    private static final double MOTION_STOP_TIME = 0.1;
     private static final double PROXIMITY_ERROR  = 0.001;
+    private static final long RESIZE_SETTLE_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong(RESIZE_SETTLE_DELAY_PROPERTY, 0L));
 
     private final KnobEvent  ADJUSTING_EVENT = new KnobEvent(this, null, ADJUSTING);
     private final KnobEvent   ADJUSTED_EVENT = new KnobEvent(this, null, ADJUSTED);
+    private final KnobEvent  RAMP_STEP_EVENT = new KnobEvent(this, null, RAMP_STEP);
     private final KnobEvent TARGET_SET_EVENT = new KnobEvent(this, null, TARGET_SET);
 
     protected Pane pane;
     protected double size;
 
-    private Arc barArc;
-    private ConicalGradient barGradient;
+    private boolean animating = false;
+    private ImageView backgroundView;
+    private KnobCanvasRenderer canvasRenderer;
     private Arc currentValueBarArc;
+    private final KnobValueSink currentValueSink = new KnobValueSink(this::setCurrentValue);
     private EventHandler<MouseEvent> doubleClickHandler = e -> {
         if ( e.getButton().equals(MouseButton.PRIMARY) && e.getClickCount() == 2 ) {
             openEditor();
         }
     };
-    private DropShadow dropShadow;
-    private InnerShadow highlight;
+    private final KnobDragTracker dragTracker = new KnobDragTracker(this);
+    private volatile FixedPointFormat format = new FixedPointFormat(2);
+    private KnobGeometry geometry = KnobGeometry.of(0);
     private Circle indicator;
     private DropShadow indicatorGlow;
+    private Group indicatorGroup;
     private InnerShadow indicatorHighlight;
     private InnerShadow indicatorInnerShadow;
     private Rotate indicatorRotate;
+    private final CountDownLatch initLatch = new CountDownLatch(1);
     private volatile boolean inited = false;
-    private Thread initThread;
-    private InnerShadow innerShadow;
+    private KnobEvent lastAdjustEvent = null;
+    private long lastAdjustEventNanos;
     private Circle mainCircle;
+    private volatile KnobMetrics metrics = null;
+    private final MotionProfile.State motionState = new MotionProfile.State();
+    private final PendingUpdates pendingUpdates = new PendingUpdates();
+    private final InvalidationListener qualityListener = o -> updateIndicatorEffects();
+    private boolean ramping = false;
+    private long resizeNanos;
+    private boolean resizePending = false;
+    private boolean resizeSettling = false;
     private Shape ring;
-    private String format = "%.2f";
     private Arc tagBarArc;
     private Text targetText;
     private Text text;
@@ -154,53 +199,80 @@ public class Knob extends Region {
     private Text textMin;
     private Polygon textMinTag;
     private Text unitText;
-    private final List<Runnable> waitingEvents = Collections.synchronizedList(new ArrayList<>(4));
+    private boolean updating = false;
+    private final KnobValueGeometry valueGeometry = new KnobValueGeometry();
+    private final RenderingMode renderingMode;
 
-    @SuppressWarnings( "CallToThreadStartDuringObjectConstruction" )
     public Knob() {
+        this(RenderingMode.NODES);
+    }
+
+    /**
+     * @param renderingMode How this knob is rendered. A {@code null} value is
+     *                      considered as {@link RenderingMode#NODES}.
+     */
+    public Knob( final RenderingMode renderingMode ) {
+
+        this.renderingMode = ( renderingMode == null ) ? RenderingMode.NODES : renderingMode;
 
         initSize();
 
-        widthProperty().addListener(w -> {
-            if ( inited ) {
-                resize();
-            } else {
-                waitingEvents.add(() -> resize());
-            }
-        });
-        heightProperty().addListener(h -> {
-            if ( inited ) {
-                resize();
-            } else {
-                waitingEvents.add(() -> resize());
-            }
-        });
+        widthProperty().addListener(w -> sizeInvalidated());
+        heightProperty().addListener(h -> sizeInvalidated());
         disabledProperty().addListener(d -> setOpacity(isDisabled() ? 0.4 : 1.0));
 
-        initThread = new Thread(new Task<Void>() {
-            @Override
-            @SuppressWarnings( "CallToThreadYield" )
-            protected Void call() throws Exception {
+        if ( Boolean.getBoolean(METRICS_PROPERTY) ) {
+            setMetricsEnabled(true);
+        }
 
-                initComponents();
+        KnobExecutors.initializer().execute(() -> {
+            try {
 
-                synchronized ( waitingEvents ) {
-                    while ( !waitingEvents.isEmpty() ) {
-                        Platform.runLater(waitingEvents.remove(0));
-                        Thread.yield();
-                    }
-                }
+                //  Fonts and geometry for the preferred size are likely to be
+                //  needed by the first layout pass.
+                KnobGeometry.of(Math.min(getPrefWidth(), getPrefHeight()));
+                initComponents();
 
                 inited = true;
-                initThread = null;
 
-                return null;
+                //  Updates posted before initialization are applied in a
+                //  single batch.
+                if ( !pendingUpdates.isEmpty() ) {
+                    Platform.runLater(this::applyPendingUpdates);
+                }
 
+            } finally {
+                initLatch.countDown();
             }
         });
 
-        initThread.setDaemon(true);
-        initThread.start();
+    }
+
+    /**
+     * Wait for the background initialization of all the given knobs to be
+     * completed. It is useful when building large screens, to show them only
+     * when all their knobs are ready.
+     *
+     * @param knobs   The knobs to be waited for.
+     * @param timeout The maximum time to wait.
+     * @param unit    The time unit of the {@code timeout} argument.
+     * @return {@code true} if all the knobs were successfully initialized,
+     *         {@code false} if the waiting time elapsed before or some
+     *         initialization failed.
+     * @throws InterruptedException If the current thread is interrupted while
+     *                              waiting.
+     */
+    public static boolean awaitInitialization( final Collection<? extends Knob> knobs, final long timeout, final TimeUnit unit ) throws InterruptedException {
+
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        for ( Knob knob : knobs ) {
+            if ( !knob.initLatch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS) || !knob.isInitialized() ) {
+                return false;
+            }
+        }
+
+        return true;
 
     }
 
@@ -247,9 +319,17 @@ public class Knob extends Region {
     private final ObjectProperty<Color> color = new SimpleObjectProperty<Color>(this, "color", DEFAULT_COLOR) {
         @Override
         protected void invalidated() {
+
             if ( get() == null ) {
                 set(DEFAULT_COLOR);
             }
+
+            if ( inited ) {
+                updateBackground();
+            } else {
+                postUpdate(BACKGROUND);
+            }
+
         }
     };
 
@@ -272,7 +352,18 @@ public class Knob extends Region {
         @Override
         protected void invalidated() {
 
+            final KnobMetrics m = metrics;
+
+            if ( m != null ) {
+                m.currentValueInvalidated();
+            }
+
             double val = get();
+
+            if ( updating ) {
+                return;
+            }
+
             double min = getMinValue();
             double max = getMaxValue();
 
@@ -284,20 +375,12 @@ public class Knob extends Region {
 
             }
 
-            if ( close(val, getTargetValue(), ( max - min ) * PROXIMITY_ERROR) ) {
-                fireEvent(ADJUSTED_EVENT);
-            } else {
-                fireEvent(ADJUSTING_EVENT);
-            }
+            fireAdjustEvent(close(val, getTargetValue(), ( max - min ) * PROXIMITY_ERROR));
 
             if ( inited ) {
                 setText(val);
             } else {
-
-                final double fval = val;
-
-                waitingEvents.add(() -> setText(fval));
-
+                postUpdate(TEXT);
             }
 
         }
@@ -315,6 +398,17 @@ public class Knob extends Region {
         this.currentValue.set(currentValue);
     }
 
+    /**
+     * Returns the thread-safe feed for the {@link #currentValueProperty()}.
+     * Values pushed into it from any thread are coalesced, and only the latest
+     * one is applied, at most once per pulse, on the JavaFX Application Thread.
+     *
+     * @return The {@link KnobValueSink} feeding this knob's current value.
+     */
+    public KnobValueSink getCurrentValueSink() {
+        return currentValueSink;
+    }
+
     /*
      * ---- currentValueColor --------------------------------------------------
      */
@@ -356,7 +450,7 @@ public class Knob extends Region {
 
             }
 
-            format = MessageFormat.format("%.{0,number,###0}f", val);
+            format = new FixedPointFormat(val);
 
             if ( inited ) {
                 setText(getCurrentValue());
@@ -364,12 +458,10 @@ public class Knob extends Region {
                 setTextMin(getMinValue());
                 setTargetText(getTargetValue());
             } else {
-                waitingEvents.add(() -> {
-                    setText(getCurrentValue());
-                    setTextMax(getMaxValue());
-                    setTextMin(getMinValue());
-                    setTargetText(getTargetValue());
-                });
+                postUpdate(TEXT);
+                postUpdate(TEXT_MAX);
+                postUpdate(TEXT_MIN);
+                postUpdate(TARGET_TEXT);
             }
 
         }
@@ -404,6 +496,87 @@ public class Knob extends Region {
         this.dragDisabled.set(dragDisabled);
     }
 
+    /*
+     * ---- dragStep -----------------------------------------------------------
+     */
+    private final DoubleProperty dragStep = new SimpleDoubleProperty(this, "dragStep", 0);
+
+    /**
+     * The resolution of the target values set by dragging the ring. A
+     * positive value rounds them to the minimum value plus a multiple of
+     * it, or to the maximum value when nearer, so that it can be reached
+     * also when the range is not a multiple of the step. The default,
+     * {@code 0}, rounds them to the displayed resolution
+     * (see {@link #decimalsProperty()}). A negative value disables the
+     * rounding.
+     * <p>
+     * Drags not changing the rounded target value neither change the
+     * property nor fire events.</p>
+     *
+     * @return The property holding the step of the dragged target values.
+     */
+    public DoubleProperty dragStepProperty() {
+        return dragStep;
+    }
+
+    public double getDragStep() {
+        return dragStep.get();
+    }
+
+    public void setDragStep( double dragStep ) {
+        this.dragStep.set(dragStep);
+    }
+
+    /*
+     * ---- effectiveSetpoint --------------------------------------------------
+     */
+    private final ReadOnlyDoubleWrapper effectiveSetpoint = new ReadOnlyDoubleWrapper(this, "effectiveSetpoint", 0);
+
+    /**
+     * The setpoint to be sent to the controlled device. It is equal to the
+     * target value, unless a positive {@link #rampRateProperty()} is set:
+     * in this case it is moved toward the target value at such rate, and a
+     * {@link KnobEvent#RAMP_STEP} event is fired at each step.
+     *
+     * @return The property holding the effective setpoint.
+     */
+    public ReadOnlyDoubleProperty effectiveSetpointProperty() {
+        return effectiveSetpoint.getReadOnlyProperty();
+    }
+
+    public double getEffectiveSetpoint() {
+        return effectiveSetpoint.get();
+    }
+
+    /*
+     * ---- eventPolicy --------------------------------------------------------
+     */
+    private final ObjectProperty<EventPolicy> eventPolicy = new SimpleObjectProperty<EventPolicy>(this, "eventPolicy", EventPolicy.EVERY_CHANGE) {
+        @Override
+        protected void invalidated() {
+            if ( get() == null ) {
+                set(EventPolicy.EVERY_CHANGE);
+            }
+        }
+    };
+
+    /**
+     * @return The property controlling how {@link KnobEvent#ADJUSTING} and
+     *         {@link KnobEvent#ADJUSTED} events are delivered.
+     * @see EventPolicy
+     */
+    public ObjectProperty<EventPolicy> eventPolicyProperty() {
+        return eventPolicy;
+    }
+
+    public EventPolicy getEventPolicy() {
+        return eventPolicy.get();
+    }
+
+    public void setEventPolicy( EventPolicy eventPolicy ) {
+        this.eventPolicy.set(eventPolicy);
+    }
+
     /*
      * ---- extremaVisible -----------------------------------------------------
      */
@@ -438,34 +611,10 @@ public class Knob extends Region {
 
             }
 
-            ConicalGradient bGrad = new ConicalGradient(reorderStops(val));
-
             if ( inited ) {
-
-                double width  = getWidth() - getInsets().getLeft() - getInsets().getRight();
-                double height = getHeight() - getInsets().getTop() - getInsets().getBottom();
-
-                barGradient = bGrad;
-                size = width < height ? width : height;
-
-                barArc.setCache(false);
-                barArc.setStroke(barGradient.getImagePattern(new Rectangle(0, 0, size, size)));
-                barArc.setCacheHint(CacheHint.SPEED);
-
+                updateBackground();
             } else {
-                waitingEvents.add(() -> {
-
-                    double width  = getWidth() - getInsets().getLeft() - getInsets().getRight();
-                    double height = getHeight() - getInsets().getTop() - getInsets().getBottom();
-
-                    barGradient = bGrad;
-                    size = width < height ? width : height;
-
-                    barArc.setCache(false);
-                    barArc.setStroke(barGradient.getImagePattern(new Rectangle(0, 0, size, size)));
-                    barArc.setCacheHint(CacheHint.SPEED);
-
-                });
+                postUpdate(BACKGROUND);
             }
 
         }
@@ -516,6 +665,30 @@ public class Knob extends Region {
         this.indicatorColor.set(indicatorColor);
     }
 
+    /*
+     * ---- maxEventRate -------------------------------------------------------
+     */
+    private final DoubleProperty maxEventRate = new SimpleDoubleProperty(this, "maxEventRate", 10);
+
+    /**
+     * @return The property holding the maximum number, per second, of
+     *         consecutive {@link KnobEvent#ADJUSTING} (or
+     *         {@link KnobEvent#ADJUSTED}) events delivered when the event
+     *         policy is {@link EventPolicy#THROTTLED}. A non-positive value
+     *         disables throttling.
+     */
+    public DoubleProperty maxEventRateProperty() {
+        return maxEventRate;
+    }
+
+    public double getMaxEventRate() {
+        return maxEventRate.get();
+    }
+
+    public void setMaxEventRate( double maxEventRate ) {
+        this.maxEventRate.set(maxEventRate);
+    }
+
     /*
      * ---- maxValue -----------------------------------------------------------
      */
@@ -524,6 +697,11 @@ public class Knob extends Region {
         protected void invalidated() {
 
             double val = get();
+
+            if ( updating ) {
+                return;
+            }
+
             double min = getMinValue();
 
             if ( needsClamping(val, min, Double.MAX_VALUE) ) {
@@ -537,11 +715,7 @@ public class Knob extends Region {
             if ( inited ) {
                 setTextMax(val);
             } else {
-
-                double fval = val;
-
-                waitingEvents.add(() -> setTextMax(fval));
-
+                postUpdate(TEXT_MAX);
             }
 
             double cur = getCurrentValue();
@@ -579,6 +753,11 @@ public class Knob extends Region {
         protected void invalidated() {
 
             double val = get();
+
+            if ( updating ) {
+                return;
+            }
+
             double max = getMaxValue();
 
             if ( needsClamping(val, - Double.MAX_VALUE, max) ) {
@@ -592,11 +771,7 @@ public class Knob extends Region {
             if ( inited ) {
                 setTextMin(val);
             } else {
-
-                double fval = val;
-
-                waitingEvents.add(() -> setTextMin(fval));
-
+                postUpdate(TEXT_MIN);
             }
 
             double cur = getCurrentValue();
@@ -626,6 +801,88 @@ public class Knob extends Region {
         this.minValue.set(minValue);
     }
 
+    /*
+     * ---- motionProfile ------------------------------------------------------
+     */
+    private final ObjectProperty<MotionProfile> motionProfile = new SimpleObjectProperty<MotionProfile>(this, "motionProfile", null) {
+        @Override
+        protected void invalidated() {
+            if ( get() != null ) {
+                startMotion();
+            }
+        }
+    };
+
+    /**
+     * When not {@code null}, the {@link #currentValueProperty()} itself is
+     * driven toward the target value by a timer shared by all knobs,
+     * according to the given {@link MotionProfile}, every time the target
+     * value changes. The property is set once per pulse, so its listeners
+     * and bindings see every interpolated value, and
+     * {@link KnobEvent#ADJUSTING} events are fired for them according to the
+     * {@link #eventPolicyProperty() event policy} (e.g. only once with
+     * {@link EventPolicy#EDGE_TRIGGERED}), followed by
+     * {@link KnobEvent#ADJUSTED} when the target is reached.
+     * <p>
+     * Values set explicitly, or through {@link #getCurrentValueSink()},
+     * while animating become the starting point of the next step, and the
+     * motion continues from there. Once the target is reached, they are no
+     * more animated until the target value changes again.</p>
+     * <p>
+     * The default, {@code null}, disables the animation: the current value
+     * is changed only explicitly.</p>
+     *
+     * @return The property holding the profile of the current value motion.
+     */
+    public ObjectProperty<MotionProfile> motionProfileProperty() {
+        return motionProfile;
+    }
+
+    public MotionProfile getMotionProfile() {
+        return motionProfile.get();
+    }
+
+    public void setMotionProfile( MotionProfile motionProfile ) {
+        this.motionProfile.set(motionProfile);
+    }
+
+    /*
+     * ---- rampRate -----------------------------------------------------------
+     */
+    private final DoubleProperty rampRate = new SimpleDoubleProperty(this, "rampRate", 0) {
+        @Override
+        protected void invalidated() {
+            //  Reading the new rate keeps the property valid, so that
+            //  further changes are notified.
+            if ( get() <= 0 || !ramping ) {
+                startRamp();
+            }
+        }
+    };
+
+    /**
+     * The maximum rate, in units per second, at which the
+     * {@link #effectiveSetpointProperty()} moves toward the target value.
+     * Ramps of all knobs are stepped together by a single shared scheduler
+     * (see {@link #RAMP_INTERVAL_PROPERTY} for the step interval).
+     * <p>
+     * The default, {@code 0} (or any non-positive value), disables ramping:
+     * the effective setpoint follows the target value immediately.</p>
+     *
+     * @return The property holding the setpoint ramping rate.
+     */
+    public DoubleProperty rampRateProperty() {
+        return rampRate;
+    }
+
+    public double getRampRate() {
+        return rampRate.get();
+    }
+
+    public void setRampRate( double rampRate ) {
+        this.rampRate.set(rampRate);
+    }
+
     /*
      * ---- selected -----------------------------------------------------------
      */
@@ -714,8 +971,19 @@ public class Knob extends Region {
     private final DoubleProperty targetValue = new SimpleDoubleProperty(this, "targetValue", 0) {
         @Override
         protected void invalidated() {
-            
+
+            final KnobMetrics m = metrics;
+
+            if ( m != null ) {
+                m.targetValueInvalidated();
+            }
+
             double val = get();
+
+            if ( updating ) {
+                return;
+            }
+
             double min = getMinValue();
             double max = getMaxValue();
 
@@ -727,22 +995,17 @@ public class Knob extends Region {
                 
             }
 
-            if ( close(getCurrentValue(), val, ( max - min ) * PROXIMITY_ERROR) ) {
-                fireEvent(ADJUSTED_EVENT);
-            } else {
-                fireEvent(ADJUSTING_EVENT);
-            }
+            fireAdjustEvent(close(getCurrentValue(), val, ( max - min ) * PROXIMITY_ERROR));
 
             if ( inited ) {
                 setTargetText(val);
             } else {
-
-                double fval = val;
-
-                waitingEvents.add(() -> setTargetText(fval));
-
+                postUpdate(TARGET_TEXT);
             }
 
+            startMotion();
+            startRamp();
+
         }
     };
 
@@ -808,7 +1071,7 @@ public class Knob extends Region {
             if ( inited ) {
                 setUnitText(get());
             } else {
-                waitingEvents.add(() -> setUnitText(get()));
+                postUpdate(UNIT_TEXT);
             }
         }
     };
@@ -846,7 +1109,47 @@ public class Knob extends Region {
      * -------------------------------------------------------------------------
      */
     public void fireTargeValueSet() {
-        fireEvent(TARGET_SET_EVENT);
+        fire(TARGET_SET_EVENT);
+    }
+
+    /**
+     * @return The metrics of this knob, or {@code null} if not enabled.
+     * @see #setMetricsEnabled(boolean)
+     */
+    public KnobMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return How this knob is rendered.
+     */
+    public RenderingMode getRenderingMode() {
+        return renderingMode;
+    }
+
+    /**
+     * @return {@code true} when the background initialization of this knob
+     *         has been completed.
+     * @see #awaitInitialization(java.util.Collection, long, java.util.concurrent.TimeUnit)
+     */
+    public boolean isInitialized() {
+        return inited;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metrics != null;
+    }
+
+    /**
+     * Property changes happening before a knob is initialized are recorded as
+     * pending updates, and coalesced when the same update is already pending
+     * (e.g. many resize or text updates). This method returns the number of
+     * such updates that were saved, across all knobs.
+     *
+     * @return The total number of coalesced pending updates.
+     */
+    public static long getCoalescedUpdatesCount() {
+        return PendingUpdates.getCoalescedCount();
     }
 
     public void removeOnAdjusted( final EventHandler<KnobEvent> handler ) {
@@ -857,10 +1160,32 @@ public class Knob extends Region {
         removeEventHandler(KnobEvent.ADJUSTING, handler);
     }
 
+    public void removeOnRampStep( final EventHandler<KnobEvent> handler ) {
+        removeEventHandler(KnobEvent.RAMP_STEP, handler);
+    }
+
     public void removeOnTargetSet( final EventHandler<KnobEvent> handler ) {
         removeEventHandler(KnobEvent.TARGET_SET, handler);
     }
 
+    /**
+     * Enable or disable the collection of {@link KnobMetrics} for this knob.
+     * Enabled metrics are registered into the {@link KnobMetricsRegistry}.
+     * Disabling them discards the collected values.
+     *
+     * @param enabled {@code true} to collect metrics.
+     */
+    public void setMetricsEnabled( final boolean enabled ) {
+        if ( enabled && metrics == null ) {
+            metrics = new KnobMetrics();
+            KnobMetricsRegistry.register(metrics);
+        } else if ( !enabled && metrics != null ) {
+            KnobMetricsRegistry.unregister(metrics);
+            KnobMetricsRegistry.unregisterMBean(this);
+            metrics = null;
+        }
+    }
+
     public void setOnAdjusted( final EventHandler<KnobEvent> handler ) {
         addEventHandler(KnobEvent.ADJUSTED, handler);
     }
@@ -869,10 +1194,102 @@ public class Knob extends Region {
         addEventHandler(KnobEvent.ADJUSTING, handler);
     }
 
+    public void setOnRampStep( final EventHandler<KnobEvent> handler ) {
+        addEventHandler(KnobEvent.RAMP_STEP, handler);
+    }
+
     public void setOnTargetSet( final EventHandler<KnobEvent> handler ) {
         addEventHandler(KnobEvent.TARGET_SET, handler);
     }
 
+    /**
+     * Change minimum, maximum, current and target values in a single
+     * transaction. The changes collected by the given consumer are validated
+     * (the maximum is not less than the minimum, and current and target
+     * values are clamped into the range), then applied without the per
+     * property handling. Texts are updated once, and a single
+     * {@link KnobEvent#ADJUSTING} or {@link KnobEvent#ADJUSTED} event is
+     * fired (according to the {@link EventPolicy}) if the current or target
+     * value changed.
+     * <p>
+     * Property listeners are still notified of each changed value.</p>
+     *
+     * @param changes The consumer setting the new values into the given
+     *                {@link KnobUpdate}.
+     */
+    public void update( final Consumer<KnobUpdate> changes ) {
+
+        final KnobUpdate update = new KnobUpdate(this);
+
+        changes.accept(update);
+
+        final double min = update.minValue;
+        final double max = Math.max(min, update.maxValue);
+        final double cur = clamp(update.currentValue, min, max);
+        final double tgt = clamp(update.targetValue, min, max);
+        final boolean minChanged = ( min != getMinValue() );
+        final boolean maxChanged = ( max != getMaxValue() );
+        final boolean curChanged = ( cur != getCurrentValue() );
+        final boolean tgtChanged = ( tgt != getTargetValue() );
+
+        if ( !( minChanged || maxChanged || curChanged || tgtChanged ) ) {
+            return;
+        }
+
+        updating = true;
+
+        try {
+            setMinValue(min);
+            setMaxValue(max);
+            setCurrentValue(cur);
+            setTargetValue(tgt);
+        } finally {
+            updating = false;
+        }
+
+        if ( minChanged ) {
+            if ( inited ) {
+                setTextMin(min);
+            } else {
+                postUpdate(TEXT_MIN);
+            }
+        }
+        if ( maxChanged ) {
+            if ( inited ) {
+                setTextMax(max);
+            } else {
+                postUpdate(TEXT_MAX);
+            }
+        }
+        if ( curChanged ) {
+            if ( inited ) {
+                setText(cur);
+            } else {
+                postUpdate(TEXT);
+            }
+        }
+        if ( tgtChanged ) {
+            if ( inited ) {
+                setTargetText(tgt);
+            } else {
+                postUpdate(TARGET_TEXT);
+            }
+        }
+
+        updateValueGeometry();
+
+        //  Range changes not clamping any value fire no event.
+        if ( curChanged || tgtChanged ) {
+            fireAdjustEvent(close(cur, tgt, ( max - min ) * PROXIMITY_ERROR));
+        }
+
+        if ( tgtChanged ) {
+            startMotion();
+            startRamp();
+        }
+
+    }
+
     protected void initComponents() {
 
         angleStepProperty().bind(Bindings.divide(ANGLE_RANGE, Bindings.subtract(maxValueProperty(), minValueProperty())));
@@ -883,20 +1300,23 @@ public class Knob extends Region {
             backgroundColorProperty()
         ));
 
-        dropShadow  = new DropShadow (BlurType.TWO_PASS_BOX, Color.rgb(  0,   0,   0, 0.65), PREFERRED_WIDTH * 0.016, 0.0, 0,  PREFERRED_WIDTH * 0.028);
-        highlight   = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(255, 255, 255, 0.20), PREFERRED_WIDTH * 0.008, 0.0, 0,  PREFERRED_WIDTH * 0.008);
-        innerShadow = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(  0,   0,   0, 0.20), PREFERRED_WIDTH * 0.008, 0.0, 0, -PREFERRED_WIDTH * 0.008);
+        if ( renderingMode == RenderingMode.CANVAS ) {
+
+            canvasRenderer = new KnobCanvasRenderer(this);
+            pane = canvasRenderer.getPane();
 
-        highlight.setInput(innerShadow);
-        dropShadow.setInput(highlight);
+            Platform.runLater(() -> getChildren().setAll(pane));
 
-        barGradient = new ConicalGradient(reorderStops(getGradientStops()));
-        barArc      = new Arc(PREFERRED_WIDTH * 0.5, PREFERRED_HEIGHT * 0.5, PREFERRED_WIDTH * 0.46, PREFERRED_HEIGHT * 0.46, BAR_START_ANGLE, 0);
+            return;
 
-        barArc.setType(ArcType.OPEN);
-        barArc.setStrokeLineCap(StrokeLineCap.ROUND);
-        barArc.setFill(null);
-        barArc.setStroke(barGradient.getImagePattern(new Rectangle(0, 0, PREFERRED_WIDTH, PREFERRED_HEIGHT)));
+        }
+
+        //  The background disc, the gradient bar, the ring and the main
+        //  circle are pre-rendered into an image shared by all the knobs
+        //  with the same size, color and gradient stops.
+        backgroundView = new ImageView();
+
+        backgroundView.setMouseTransparent(true);
 
         currentValueBarArc = new Arc(PREFERRED_WIDTH * 0.5, PREFERRED_HEIGHT * 0.5, PREFERRED_WIDTH * 0.46, PREFERRED_HEIGHT * 0.46, BAR_START_ANGLE, 0);
 
@@ -904,82 +1324,30 @@ public class Knob extends Region {
         currentValueBarArc.setStrokeLineCap(StrokeLineCap.ROUND);
         currentValueBarArc.setFill(null);
         currentValueBarArc.strokeProperty().bind(currentValueColorProperty());
-        currentValueBarArc.lengthProperty().bind(Bindings.createDoubleBinding(() -> {
 
-                    double localMin = ( isZeroDetentEnabled() && getMinValue() < 0 ) ? Math.min(0, getMaxValue()) : getMinValue();
-                    double length = getAngleStep() * ( localMin - getCurrentValue() );
+        double center = PREFERRED_WIDTH * 0.5;
 
-                    if ( length == 0 ) {
-                        length = getAngleStep() * ( getMinValue() - getMaxValue() ) / 10000;
-                    }
+        ring = Shape.subtract(
+            new Circle(center, center, PREFERRED_WIDTH * 0.42),
+            new Circle(center, center, PREFERRED_WIDTH * 0.3)
+        );
 
-                    return length;
-
-                },
-                angleStepProperty(),
-                currentValueProperty(),
-                maxValueProperty(),
-                minValueProperty(),
-                zeroDetentEnabledProperty()
-            )
-        );
-        currentValueBarArc.opacityProperty().bind(Bindings.createDoubleBinding(() -> {
-
-                    double localMin = ( isZeroDetentEnabled() && getMinValue() < 0 ) ? Math.min(0, getMaxValue()) : getMinValue();
-                    double length = getAngleStep() * ( localMin - getCurrentValue() );
-
-                    if ( length == 0 ) {
-                        return 0.6666;
-                    } else {
-                        return 1.0;
-                    }
-
-                },
-                angleStepProperty(),
-                currentValueProperty(),
-                maxValueProperty(),
-                minValueProperty(),
-                zeroDetentEnabledProperty()
-            )
-        );
-        currentValueBarArc.startAngleProperty().bind(Bindings.createDoubleBinding(() -> {
-
-                    double angle = BAR_START_ANGLE;
-
-                    if ( isZeroDetentEnabled() && getMinValue() < 0 ) {
-                       angle += Math.max(getAngleStep() * getMinValue(), - ANGLE_RANGE);
-                    }
-
-                    return angle;
-
-                },
-                angleStepProperty(),
-                minValueProperty(),
-                zeroDetentEnabledProperty()
-            )
-        );
-
-        double center = PREFERRED_WIDTH * 0.5;
-
-        ring = Shape.subtract(
-            new Circle(center, center, PREFERRED_WIDTH * 0.42),
-            new Circle(center, center, PREFERRED_WIDTH * 0.3)
-        );
-
-        ring.fillProperty().bind(colorProperty());
-        ring.setEffect(dropShadow);
+        //  Ring and main circle are drawn by the background image: here they
+        //  are transparent, used only to handle mouse events.
+        ring.setFill(Color.TRANSPARENT);
         ring.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> {
             if ( !isDisabled() && !isDragDisabled() ) {
-                touchRotate(e.getSceneX(), e.getSceneY());
+                dragTracker.begin(e.getSceneX(), e.getSceneY());
             }
         });
         ring.addEventHandler(MouseEvent.MOUSE_DRAGGED, e -> {
             if ( !isDisabled() && !isDragDisabled() ) {
-                touchRotate(e.getSceneX(), e.getSceneY());
+                dragTracker.drag(e.getSceneX(), e.getSceneY());
             }
         });
         ring.addEventHandler(MouseEvent.MOUSE_RELEASED, e -> {
             if ( !isDisabled() && !isDragDisabled() ) {
+                dragTracker.end();
                 fireTargeValueSet();
             }
         });
@@ -992,16 +1360,16 @@ public class Knob extends Region {
 
         mainCircle = new Circle();
 
-        mainCircle.fillProperty().bind(Bindings.createObjectBinding(() -> getColor().darker().darker(), colorProperty()));
+        mainCircle.setFill(Color.TRANSPARENT);
         mainCircle.setOnMouseClicked(doubleClickHandler);
 
-        text = new Text(String.format(format, getCurrentValue()));
+        text = new Text(format.format(getCurrentValue()));
 
         text.fillProperty().bind(textColorProperty());
         text.setOnMouseClicked(doubleClickHandler);
         text.setTextOrigin(VPos.CENTER);
 
-        targetText = new Text(String.format(format, getTargetValue()));
+        targetText = new Text(format.format(getTargetValue()));
 
         targetText.fillProperty().bind(Bindings.createObjectBinding(() -> getTextColor().darker(), textColorProperty()));
         targetText.setOnMouseClicked(doubleClickHandler);
@@ -1026,7 +1394,7 @@ public class Knob extends Region {
         textMinTag.fillProperty().bind(Bindings.createObjectBinding(() -> getColor().darker().darker(), colorProperty()));
         textMinTag.visibleProperty().bind(extremaVisibleProperty());
 
-        textMin = new Text(String.format(format, getMinValue()));
+        textMin = new Text(format.format(getMinValue()));
 
         textMin.fillProperty().bind(Bindings.createObjectBinding(() -> getTextColor().darker(), textColorProperty()));
         textMin.setTextOrigin(VPos.CENTER);
@@ -1037,7 +1405,7 @@ public class Knob extends Region {
         textMaxTag.fillProperty().bind(Bindings.createObjectBinding(() -> getColor().darker().darker(), colorProperty()));
         textMaxTag.visibleProperty().bind(extremaVisibleProperty());
 
-        textMax = new Text(String.format(format, getMaxValue()));
+        textMax = new Text(format.format(getMaxValue()));
 
         textMax.fillProperty().bind(Bindings.createObjectBinding(() -> getTextColor().darker(), textColorProperty()));
         textMax.setTextOrigin(VPos.CENTER);
@@ -1056,17 +1424,11 @@ public class Knob extends Region {
         indicatorInnerShadow = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(  0,   0,   0, 0.50), PREFERRED_WIDTH * 0.008, 0.0, 0,  PREFERRED_WIDTH * 0.008);
         indicatorHighlight   = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(255, 255, 255, 0.35), PREFERRED_WIDTH * 0.008, 0.0, 0, -PREFERRED_WIDTH * 0.008);
 
-        indicatorRotate.angleProperty().bind(Bindings.subtract(Bindings.multiply(Bindings.subtract(targetValueProperty(), minValueProperty()), angleStepProperty()), ANGLE_RANGE * 0.5));
         indicatorGlow.colorProperty().bind(selectionColorProperty());
         indicatorHighlight.setInput(indicatorInnerShadow);
 
         indicator = new Circle();
 
-        indicator.effectProperty().bind(Bindings.createObjectBinding(
-            () -> isSelected() ? indicatorGlow : null,
-            selectionColorProperty(),
-            selectedProperty()
-        ));
         indicator.disableProperty().bind(dragDisabledProperty());
         indicator.fillProperty().bind(Bindings.createObjectBinding(
             () -> {
@@ -1099,144 +1461,154 @@ public class Knob extends Region {
         indicator.setMouseTransparent(true);
         indicator.getTransforms().add(indicatorRotate);
 
-        Group indicatorGroup = new Group(indicator);
+        //  Current value bar and indicator angles are computed together, once
+        //  per change of any of their dependencies.
+        final InvalidationListener geometryListener = o -> {
+            if ( !updating ) {
+                updateValueGeometry();
+            }
+        };
 
-        indicatorGroup.setEffect(indicatorHighlight);
+        //  Current value changes not moving the end of the bar by at least
+        //  a pixel are not rendered.
+        currentValueProperty().addListener(o -> {
+            if ( !updating ) {
+                updateCurrentValueGeometry();
+            }
+        });
+        maxValueProperty().addListener(geometryListener);
+        minValueProperty().addListener(geometryListener);
+        targetValueProperty().addListener(geometryListener);
+        zeroDetentEnabledProperty().addListener(geometryListener);
+        updateValueGeometry();
+
+        indicatorGroup = new Group(indicator);
+
+        updateIndicatorEffects();
+        selectedProperty().addListener(o -> updateIndicatorEffects());
+        KnobQuality.addListener(qualityListener);
 
-        pane = new Pane(barArc, currentValueBarArc, ring, mainCircle, text, targetText, unitText, textMinTag, textMin, textMaxTag, textMax, tagBarArc, indicatorGroup);
+        pane = new Pane(backgroundView, currentValueBarArc, ring, mainCircle, text, targetText, unitText, textMinTag, textMin, textMaxTag, textMax, tagBarArc, indicatorGroup);
 
         pane.setPrefSize(PREFERRED_HEIGHT, PREFERRED_HEIGHT);
-        pane.backgroundProperty().bind(Bindings.createObjectBinding(
-            () -> new Background(new BackgroundFill(getColor().darker(), new CornerRadii(1024), Insets.EMPTY)),
-            colorProperty()
-        ));
-        pane.setEffect(highlight);
 
         Platform.runLater(() -> getChildren().setAll(pane));
 
     }
 
-    protected void resize() {
-
-        double width  = getWidth() - getInsets().getLeft() - getInsets().getRight();
-        double height = getHeight() - getInsets().getTop() - getInsets().getBottom();
-
-        size = width < height ? width : height;
-
-        if ( width > 0 && height > 0 ) {
+    /**
+     * Width and height changes are collapsed into a single resize, performed
+     * in the layout pass of the same pulse.
+     */
+    @Override
+    protected void layoutChildren() {
 
-            pane.setMaxSize(size, size);
-            pane.setPrefSize(size, size);
-            pane.relocate(( getWidth() - size ) * 0.5, ( getHeight() - size ) * 0.5);
-
-            barArc.setCache(false);
-            barArc.setCenterX(size * 0.5);
-            barArc.setCenterY(size * 0.5);
-            barArc.setRadiusX(size * 0.46);
-            barArc.setRadiusY(size * 0.46);
-            barArc.setStrokeWidth(size * 0.04);
-            barArc.setStroke(barGradient.getImagePattern(new Rectangle(0, 0, size, size)));
-            barArc.setLength(-( getMaxValue() - getMinValue() ) * getAngleStep());
-            barArc.setCache(true);
-            barArc.setCacheHint(CacheHint.SPEED);
-
-            currentValueBarArc.setCenterX(size * 0.5);
-            currentValueBarArc.setCenterY(size * 0.5);
-            currentValueBarArc.setRadiusX(size * 0.46);
-            currentValueBarArc.setRadiusY(size * 0.46);
-            currentValueBarArc.setStrokeWidth(size * 0.03);
-
-            double shadowRadius = clamp(1.0, 2.0, size * 0.004);
-
-            dropShadow.setRadius(shadowRadius);
-            dropShadow.setOffsetY(shadowRadius);
-            highlight.setRadius(shadowRadius);
-            highlight.setOffsetY(shadowRadius);
-            innerShadow.setRadius(shadowRadius);
-            innerShadow.setOffsetY(-shadowRadius);
-
-            double center      = size * 0.5;
-            double scaleFactor = size / PREFERRED_WIDTH;
-
-            ring.setCache(false);
-            ring.getTransforms().setAll(new Scale(scaleFactor, scaleFactor, 0, 0));
-            ring.setCache(true);
-            ring.setCacheHint(CacheHint.SPEED);
-
-            mainCircle.setCache(false);
-            mainCircle.setRadius(size * 0.3);
-            mainCircle.setCenterX(center);
-            mainCircle.setCenterY(center);
-            mainCircle.setCache(true);
-            mainCircle.setCacheHint(CacheHint.SPEED);
+        if ( resizePending ) {
+            resizePending = false;
+            resize();
+        }
 
-            text.setFont(Fonts.robotoMedium(size * 0.216));
-            text.relocate(( size - text.getLayoutBounds().getWidth() ) * 0.5, size * 0.33);
+        super.layoutChildren();
 
-            targetText.setFont(Fonts.robotoLight(size * 0.11));
-            targetText.relocate(( size - targetText.getLayoutBounds().getWidth() ) * 0.5, size * 0.25);
+    }
 
-            unitText.setFont(Fonts.robotoLight(size * 0.11));
-            unitText.relocate(( size - unitText.getLayoutBounds().getWidth() ) * 0.5, size * 0.6);
+    protected void resize() {
 
-            textMinTag.getPoints().set(0, size * 0.0 );     textMinTag.getPoints().set(1, size * 0.886);
-            textMinTag.getPoints().set(2, size * 0.27);     textMinTag.getPoints().set(3, size * 0.886);
-            textMinTag.getPoints().set(4, size * 0.27);     textMinTag.getPoints().set(5, size * 0.966);
-            textMinTag.getPoints().set(6, size * 0.0 );     textMinTag.getPoints().set(7, size * 0.966);
+        final KnobMetrics m = metrics;
 
-            textMin.setFont(Fonts.robotoRegular(size * 0.072));
-            textMin.relocate(size * 0.007, size * 0.878);
+        if ( m == null ) {
+            resizeComponents();
+        } else {
 
-            setTextMin(getMinValue());
+            final long start = System.nanoTime();
 
-            textMaxTag.getPoints().set(0, size * 1.0 );     textMaxTag.getPoints().set(1, size * 0.886);
-            textMaxTag.getPoints().set(2, size * 0.73);     textMaxTag.getPoints().set(3, size * 0.886);
-            textMaxTag.getPoints().set(4, size * 0.73);     textMaxTag.getPoints().set(5, size * 0.966);
-            textMaxTag.getPoints().set(6, size * 1.0 );     textMaxTag.getPoints().set(7, size * 0.966);
+            resizeComponents();
 
-            textMax.setFont(Fonts.robotoRegular(size * 0.072));
-            textMax.relocate(size * 0.737, size * 0.878);
+            m.resized(System.nanoTime() - start);
 
-            setTextMax(getMaxValue());
+        }
 
-            tagBarArc.setCenterX(size * 0.5);
-            tagBarArc.setCenterY(size * 0.5);
-            tagBarArc.setRadiusX(size * 0.46);
-            tagBarArc.setRadiusY(size * 0.46);
-            tagBarArc.setStrokeWidth(size * 0.03);
+    }
 
-            indicatorGlow.setRadius(size * 0.02);
-            indicatorInnerShadow.setRadius(size * 0.008);
-            indicatorInnerShadow.setOffsetY(size * 0.006);
-            indicatorHighlight.setRadius(size * 0.008);
-            indicatorHighlight.setOffsetY(-size * 0.004);
+    private void adjustTextSize( final Text textComponent, final double availableWidth, final double fontSize ) {
+        FontFitter.fit(textComponent, availableWidth, fontSize, metrics);
+    }
 
-            indicator.setRadius(size * 0.032);
-            indicator.setCenterX(center);
-            indicator.setCenterY(size * 0.140);
+    /**
+     * Advance the current value motion by the given time step. Called by
+     * {@link KnobAnimator} on each pulse.
+     *
+     * @param dt The time elapsed since the previous step, in seconds.
+     * @return {@code true} if the motion must continue on the next pulse.
+     */
+    boolean animate( final double dt ) {
 
-            indicatorRotate.setPivotX(center);
-            indicatorRotate.setPivotY(center);
+        final MotionProfile profile = getMotionProfile();
 
+        if ( profile == null ) {
+            animating = false;
+            return false;
         }
 
-    }
+        final double min = getMinValue();
+        final double max = getMaxValue();
+        final double target = getTargetValue();
 
-    @SuppressWarnings( "AssignmentToMethodParameter" )
-    private void adjustTextSize( final Text textComponent, final double availableWidth, double fontSize ) {
+        //  Restart from the displayed value, in case it was set externally.
+        motionState.value = getCurrentValue();
 
-        final String fontName = textComponent.getFont().getName();
+        profile.advance(motionState, target, max - min, dt);
 
-        textComponent.setFont(new Font(fontName, fontSize));
+        //  Asymptotic profiles are stopped when the remaining motion is no
+        //  more visible.
+        final double error = ( max - min ) * PROXIMITY_ERROR * 0.01;
+        final boolean arrived = close(motionState.value, target, error) && Math.abs(motionState.velocity) < error / MOTION_STOP_TIME;
 
-        while ( textComponent.getLayoutBounds().getWidth() > availableWidth && fontSize > 0 ) {
+        setCurrentValue(arrived ? target : motionState.value);
 
-            fontSize -= 0.005;
+        //  Event handlers could have changed the target value meanwhile.
+        if ( arrived && target == getTargetValue() ) {
+            stopAnimation();
+        }
 
-            textComponent.setFont(new Font(fontName, fontSize));
+        return animating;
 
+    }
+
+    /**
+     * Apply the given pending {@code update} reading the current state of this
+     * knob.
+     *
+     * @param update The update to be applied.
+     */
+    private void applyPendingUpdate( final PendingUpdates.Update update ) {
+        switch ( update ) {
+            case RESIZE:
+                resize();
+                break;
+            case BACKGROUND:
+                updateBackground();
+                break;
+            case TEXT:
+                setText(getCurrentValue());
+                break;
+            case TEXT_MIN:
+                setTextMin(getMinValue());
+                break;
+            case TEXT_MAX:
+                setTextMax(getMaxValue());
+                break;
+            case TARGET_TEXT:
+                setTargetText(getTargetValue());
+                break;
+            case UNIT_TEXT:
+                setUnitText(getUnit());
+                break;
         }
+    }
 
+    private void applyPendingUpdates() {
+        pendingUpdates.drain(this::applyPendingUpdate);
     }
 
     /**
@@ -1292,6 +1664,120 @@ public class Knob extends Region {
         return ( value > target - error ) && ( value < target + error );
     }
 
+    /**
+     * @return {@code true} if the current value is close enough to the target
+     *         one to consider the knob adjusted.
+     */
+    boolean isOnTarget() {
+        return close(getCurrentValue(), getTargetValue(), ( getMaxValue() - getMinValue() ) * PROXIMITY_ERROR);
+    }
+
+    /**
+     * If enabled by the {@link #RESIZE_SETTLE_DELAY_PROPERTY}, record the
+     * current resize and make sure the background will be rasterized once
+     * the resize gesture settles.
+     *
+     * @return {@code true} if background rasterization must be deferred.
+     */
+    private boolean deferRasterization() {
+
+        if ( RESIZE_SETTLE_NANOS <= 0 ) {
+            return false;
+        }
+
+        resizeNanos = System.nanoTime();
+
+        if ( !resizeSettling ) {
+            resizeSettling = true;
+            PulseScheduler.schedule(this::settleResize);
+        }
+
+        return true;
+
+    }
+
+    /**
+     * Fire the given event, recording it in the metrics if enabled.
+     *
+     * @param event The event to be fired.
+     */
+    private void fire( final KnobEvent event ) {
+
+        fireEvent(event);
+
+        final KnobMetrics m = metrics;
+
+        if ( m != null ) {
+            m.eventFired(event.getEventType());
+        }
+
+    }
+
+    /**
+     * Fire an {@link KnobEvent#ADJUSTED} or {@link KnobEvent#ADJUSTING} event,
+     * according to the current {@link EventPolicy}.
+     *
+     * @param adjusted {@code true} if current and target values are close
+     *                 enough.
+     */
+    private void fireAdjustEvent( final boolean adjusted ) {
+
+        final KnobEvent event = adjusted ? ADJUSTED_EVENT : ADJUSTING_EVENT;
+        final boolean transition = ( event != lastAdjustEvent );
+
+        switch ( getEventPolicy() ) {
+            case EDGE_TRIGGERED:
+                if ( !transition ) {
+                    return;
+                }
+                break;
+            case THROTTLED:
+
+                final long now = System.nanoTime();
+                final double rate = getMaxEventRate();
+
+                if ( !transition && rate > 0 && now - lastAdjustEventNanos < 1E9 / rate ) {
+                    return;
+                }
+
+                lastAdjustEventNanos = now;
+
+                break;
+            default:
+                break;
+        }
+
+        lastAdjustEvent = event;
+
+        fire(event);
+
+    }
+
+    private void fitTargetText() {
+        adjustTextSize(targetText, geometry.targetTextWidth, geometry.targetTextFontSize);
+        targetText.setLayoutX(( size - targetText.getLayoutBounds().getWidth() ) * 0.5);
+    }
+
+    private void fitText() {
+        adjustTextSize(text, geometry.textWidth, geometry.textFontSize);
+        text.setLayoutX(( size - text.getLayoutBounds().getWidth() ) * 0.5);
+    }
+
+    private void fitTextMax() {
+        adjustTextSize(textMax, geometry.extremaWidth, geometry.extremaFontSize);
+        textMax.setLayoutX(geometry.textMaxX + ( geometry.extremaWidth - textMax.getLayoutBounds().getWidth() ) * 0.5);
+    }
+
+    private void fitTextMin() {
+        adjustTextSize(textMin, geometry.extremaWidth, geometry.extremaFontSize);
+        textMin.setLayoutX(geometry.textMinX + ( geometry.extremaWidth - textMin.getLayoutBounds().getWidth() ) * 0.5);
+    }
+
+    private void fitUnitText() {
+        adjustTextSize(unitText, geometry.targetTextWidth, geometry.targetTextFontSize);
+        unitText.setLayoutX(( size - unitText.getLayoutBounds().getWidth() ) * 0.5);
+    }
+
     private void initSize() {
         setPrefSize(
             getPrefWidth()  > 0 ? getPrefWidth()  : PREFERRED_WIDTH,
@@ -1335,10 +1821,10 @@ public class Knob extends Region {
         return ( value < min ||  value > max );
     }
 
-    private void openEditor() {
+    void openEditor() {
 
         final PopOver popOver = new PopOver();
-        final TextField textEditor = new TextField(targetText.getText());
+        final TextField textEditor = new TextField(format.format(getTargetValue()));
         BorderPane editorPane = new BorderPane(textEditor);
 
         BorderPane.setMargin(textEditor, new Insets(12));
@@ -1369,7 +1855,7 @@ public class Knob extends Region {
         popOver.setAutoHide(true);
         popOver.setCloseButtonEnabled(true);
 
-        text.getScene().getStylesheets().stream().forEach(s -> popOver.getRoot().getStylesheets().add(s));
+        getScene().getStylesheets().stream().forEach(s -> popOver.getRoot().getStylesheets().add(s));
 
         Bounds bounds = getBoundsInLocal();
         Bounds screenBounds = localToScreen(bounds);
@@ -1382,7 +1868,88 @@ public class Knob extends Region {
         
     }
 
-    private List<Stop> reorderStops( final List<Stop> stops ) {
+    /**
+     * Record the given {@code update} to be applied once this knob is
+     * initialized. If initialization completed in the meantime, the pending
+     * updates are applied as soon as possible.
+     *
+     * @param update The update to be posted.
+     */
+    private void postUpdate( final PendingUpdates.Update update ) {
+        if ( pendingUpdates.post(update) && inited ) {
+            Platform.runLater(this::applyPendingUpdates);
+        }
+    }
+
+    /**
+     * Advance the effective setpoint toward the target value by the given
+     * time step, and fire a {@link KnobEvent#RAMP_STEP} event. Called by
+     * {@link KnobRamper}.
+     *
+     * @param dt The time elapsed since the previous step, in seconds.
+     * @return {@code true} if the ramp must continue on the next step.
+     */
+    boolean rampStep( final double dt ) {
+
+        final double rate = getRampRate();
+        final double target = getTargetValue();
+
+        if ( rate <= 0 ) {
+            effectiveSetpoint.set(target);
+            stopRamp();
+            return false;
+        }
+
+        final double setpoint = clamp(getEffectiveSetpoint(), getMinValue(), getMaxValue());
+        final double step = rate * dt;
+        final double delta = target - setpoint;
+
+        effectiveSetpoint.set(( Math.abs(delta) <= step ) ? target : setpoint + Math.copySign(step, delta));
+        fire(RAMP_STEP_EVENT);
+
+        //  Event handlers could have changed the target value meanwhile.
+        if ( getEffectiveSetpoint() == getTargetValue() ) {
+            stopRamp();
+        }
+
+        return ramping;
+
+    }
+
+    /**
+     * @param value The value to be quantized.
+     * @return The given {@code value} rounded according to the
+     *         {@link #dragStepProperty()}, and clamped into the knob range.
+     */
+    private double quantize( final double value ) {
+
+        final double step = getDragStep();
+        final double min = getMinValue();
+        final double max = getMaxValue();
+        double quantized;
+
+        if ( step > 0 ) {
+
+            //  The grid starts at the minimum value. The maximum one is an
+            //  additional grid point, not to be unreachable when the range
+            //  is not a multiple of the step.
+            quantized = min + Math.rint(( value - min ) / step) * step;
+
+            if ( Math.abs(max - value) < Math.abs(quantized - value) ) {
+                quantized = max;
+            }
+
+        } else if ( step == 0 ) {
+            quantized = format.round(value);
+        } else {
+            return value;
+        }
+
+        return clamp(quantized, min, max);
+
+    }
+
+    static List<Stop> reorderStops( final List<Stop> stops ) {
 
         /*
          * 0.0 -> 0.611
@@ -1427,57 +1994,276 @@ public class Knob extends Region {
 
     }
 
+    /**
+     * Rasterize the background at the current size if no resize happened
+     * during the settle delay, otherwise check again at
+     * the next pulse.
+     */
+    private void settleResize() {
+
+        if ( System.nanoTime() - resizeNanos < RESIZE_SETTLE_NANOS ) {
+            PulseScheduler.schedule(this::settleResize);
+            return;
+        }
+
+        resizeSettling = false;
+
+        if ( canvasRenderer != null ) {
+            canvasRenderer.refreshStaticLayer();
+        } else {
+            updateBackground();
+        }
+
+    }
+
+    private void resizeComponents() {
+
+        double width  = getWidth() - getInsets().getLeft() - getInsets().getRight();
+        double height = getHeight() - getInsets().getTop() - getInsets().getBottom();
+
+        if ( width > 0 && height > 0 ) {
+
+            double newSize = width < height ? width : height;
+
+            pane.relocate(( getWidth() - newSize ) * 0.5, ( getHeight() - newSize ) * 0.5);
+
+            //  Only the position changed.
+            if ( newSize == size ) {
+                return;
+            }
+
+            size = newSize;
+            geometry = KnobGeometry.of(size);
+
+            pane.setMaxSize(size, size);
+            pane.setPrefSize(size, size);
+
+            boolean deferred = deferRasterization();
+
+            if ( canvasRenderer != null ) {
+                canvasRenderer.resize(size, deferred);
+                return;
+            }
+
+            backgroundView.setFitWidth(size);
+            backgroundView.setFitHeight(size);
+
+            if ( !deferred || backgroundView.getImage() == null ) {
+                updateBackground();
+            }
+
+            final KnobGeometry g = geometry;
+            final double center = g.center;
+
+            currentValueBarArc.setCenterX(center);
+            currentValueBarArc.setCenterY(center);
+            currentValueBarArc.setRadiusX(g.barRadius);
+            currentValueBarArc.setRadiusY(g.barRadius);
+            currentValueBarArc.setStrokeWidth(g.barStrokeWidth);
+
+            //  Drop the sub-pixel error left by the current value deadband.
+            updateValueGeometry();
+
+            ring.getTransforms().setAll(new Scale(g.ringScale, g.ringScale, 0, 0));
+
+            mainCircle.setRadius(g.mainCircleRadius);
+            mainCircle.setCenterX(center);
+            mainCircle.setCenterY(center);
+
+            text.setFont(g.textFont);
+            text.relocate(( size - text.getLayoutBounds().getWidth() ) * 0.5, g.textY);
+
+            fitText();
+
+            targetText.setFont(g.targetTextFont);
+            targetText.relocate(( size - targetText.getLayoutBounds().getWidth() ) * 0.5, g.targetTextY);
+
+            fitTargetText();
+
+            unitText.setFont(g.unitTextFont);
+            unitText.relocate(( size - unitText.getLayoutBounds().getWidth() ) * 0.5, g.unitTextY);
+
+            fitUnitText();
+
+            textMinTag.getPoints().setAll(
+                0.0,               g.tagTop,
+                g.textMinTagRight, g.tagTop,
+                g.textMinTagRight, g.tagBottom,
+                0.0,               g.tagBottom
+            );
+
+            textMin.setFont(g.extremaFont);
+            textMin.relocate(g.textMinX, g.extremaY);
+
+            fitTextMin();
+
+            textMaxTag.getPoints().setAll(
+                size,             g.tagTop,
+                g.textMaxTagLeft, g.tagTop,
+                g.textMaxTagLeft, g.tagBottom,
+                size,             g.tagBottom
+            );
+
+            textMax.setFont(g.extremaFont);
+            textMax.relocate(g.textMaxX, g.extremaY);
+
+            fitTextMax();
+
+            tagBarArc.setCenterX(center);
+            tagBarArc.setCenterY(center);
+            tagBarArc.setRadiusX(g.barRadius);
+            tagBarArc.setRadiusY(g.barRadius);
+            tagBarArc.setStrokeWidth(g.barStrokeWidth);
+
+            updateIndicatorEffects();
+
+            indicator.setRadius(g.indicatorRadius);
+            indicator.setCenterX(center);
+            indicator.setCenterY(g.indicatorY);
+
+            indicatorRotate.setPivotX(center);
+            indicatorRotate.setPivotY(center);
+
+        }
+
+    }
+
     private void setText( final double value ) {
-        if ( text != null ) {
-            text.setText(String.format(format, value));
-            adjustTextSize(text, size * 0.48, size * 0.216);
-            text.setLayoutX(( size - text.getLayoutBounds().getWidth() ) * 0.5);
+
+        textUpdated();
+
+        if ( text != null && format.apply(text, value) ) {
+            fitText();
         }
+
     }
 
     private void setTextMax( final double value ) {
-        if ( textMax != null ) {
-            textMax.setText(String.format(format, value));
-            adjustTextSize(textMax, size * 0.256, size * 0.072);
-            textMax.setLayoutX(size * 0.737 + ( size * 0.256 - textMax.getLayoutBounds().getWidth() ) * 0.5);
+
+        textUpdated();
+
+        if ( textMax != null && format.apply(textMax, value) ) {
+            fitTextMax();
         }
+
     }
 
     private void setTextMin( final double value ) {
-        if ( textMin != null ) {
-            textMin.setText(String.format(format, value));
-            adjustTextSize(textMin, size * 0.256, size * 0.072);
-            textMin.setLayoutX(size * 0.007 + ( size * 0.256 - textMin.getLayoutBounds().getWidth() ) * 0.5);
+
+        textUpdated();
+
+        if ( textMin != null && format.apply(textMin, value) ) {
+            fitTextMin();
         }
+
     }
 
     private void setTargetText( final double value ) {
-        if ( targetText != null ) {
-            targetText.setText(String.format(format, value));
-            adjustTextSize(targetText, size * 0.39, size * 0.11);
-            targetText.setLayoutX(( size - targetText.getLayoutBounds().getWidth() ) * 0.5);
+
+        textUpdated();
+
+        if ( targetText != null && format.apply(targetText, value) ) {
+            fitTargetText();
         }
+
     }
 
     private void setUnitText( final String value ) {
+
+        textUpdated();
+
         if ( unitText != null ) {
             unitText.setText(value);
-            adjustTextSize(unitText, size * 0.39, size * 0.11);
-            unitText.setLayoutX(( size - unitText.getLayoutBounds().getWidth() ) * 0.5);
+            fitUnitText();
+        }
+
+    }
+
+    private void textUpdated() {
+
+        final KnobMetrics m = metrics;
+
+        if ( m != null ) {
+            m.textUpdated();
+        }
+
+    }
+
+    private void sizeInvalidated() {
+        if ( inited ) {
+            resizePending = true;
+            requestLayout();
+        } else {
+            postUpdate(RESIZE);
+        }
+    }
+
+    /**
+     * Start animating the current value toward the target one, if a
+     * {@link MotionProfile} is set and they differ.
+     */
+    private void startMotion() {
+        if ( !animating && getMotionProfile() != null && getCurrentValue() != getTargetValue() ) {
+
+            animating = true;
+            motionState.velocity = 0;
+
+            KnobAnimator.animate(this);
+
+        }
+    }
+
+    /**
+     * Start ramping the effective setpoint toward the target value, or make
+     * it follow the target value immediately if ramping is disabled.
+     */
+    private void startRamp() {
+        if ( getRampRate() <= 0 ) {
+            if ( !ramping ) {
+                effectiveSetpoint.set(getTargetValue());
+            }
+        } else if ( !ramping && getEffectiveSetpoint() != getTargetValue() ) {
+
+            ramping = true;
+
+            KnobRamper.ramp(this);
+
         }
     }
 
-    private void touchRotate( final double X, final double Y ) {
+    /**
+     * Mark this knob as no more animated.
+     */
+    void stopAnimation() {
+        animating = false;
+        motionState.velocity = 0;
+    }
+
+    /**
+     * Mark this knob as no more ramping.
+     */
+    void stopRamp() {
+        ramping = false;
+    }
+
+    /**
+     * Set the target value corresponding to the given pointer position.
+     * Called by {@link KnobDragTracker}.
+     *
+     * @param x The pointer X coordinate, in this knob space.
+     * @param y The pointer Y coordinate, in this knob space.
+     */
+    void touchRotate( final double x, final double y ) {
 
-        Point2D p      = sceneToLocal(X, Y);
-        double  deltaX = p.getX() - ( pane.getLayoutX() + size * 0.5 );
-        double  deltaY = p.getY() - ( pane.getLayoutY() + size * 0.5 );
-        double  radius = Math.sqrt(( deltaX * deltaX ) + ( deltaY * deltaY ));
-        double  nx     = deltaX / radius;
-        double  ny     = deltaY / radius;
-        double  theta  = Math.atan2(ny, nx);
+        //  atan2 does not need a normalized vector.
+        double theta = Math.toDegrees(Math.atan2(
+            y - ( pane.getLayoutY() + size * 0.5 ),
+            x - ( pane.getLayoutX() + size * 0.5 )
+        ));
 
-        theta = Double.compare(theta, 0.0) >= 0 ? Math.toDegrees(theta) : Math.toDegrees(( theta )) + 360.0;
+        if ( theta < 0 ) {
+            theta += 360.0;
+        }
 
         double angle = ( theta + 230 ) % 360;
 
@@ -1487,7 +2273,122 @@ public class Knob extends Region {
             angle = ANGLE_RANGE;
         }
 
-        setTargetValue(angle / getAngleStep() + getMinValue());
+        final double value = quantize(angle / getAngleStep() + getMinValue());
+
+        //  Sub-resolution moves are not committed.
+        if ( value != getTargetValue() ) {
+            setTargetValue(value);
+        }
+
+    }
+
+    /**
+     * Set the shared pre-rendered background image for the current size,
+     * color and gradient stops. Must be called on the JavaFX Application
+     * Thread.
+     */
+    private void updateBackground() {
+        if ( backgroundView != null && size > 0 ) {
+            backgroundView.setImage(KnobBackgroundCache.get(size, getColor(), getGradientStops()));
+        }
+    }
+
+    /**
+     * Update the indicator effects for the current size, selection state and
+     * {@link KnobQuality} level.
+     */
+    private void updateIndicatorEffects() {
+
+        final boolean enabled = ( KnobQuality.getLevel() != KnobQuality.Level.NONE );
+
+        KnobQuality.configureIndicatorEffects(geometry, indicatorGlow, indicatorHighlight, indicatorInnerShadow);
+        indicator.setEffect(( enabled && isSelected() ) ? indicatorGlow : null);
+        indicatorGroup.setEffect(enabled ? indicatorHighlight : null);
+
+    }
+
+    /**
+     * Update the current value bar, unless its end moves by less than one
+     * pixel (see {@link KnobGeometry#arcDeadband}). The current value
+     * property is never changed.
+     */
+    private void updateCurrentValueGeometry() {
+
+        if ( indicatorRotate == null ) {
+            return;
+        }
+
+        valueGeometry.compute(getMinValue(), getMaxValue(), getCurrentValue(), getTargetValue(), isZeroDetentEnabled());
+
+        if ( valueGeometry.arcOpacity != currentValueBarArc.getOpacity()
+          || Math.abs(valueGeometry.arcLength - currentValueBarArc.getLength()) >= geometry.arcDeadband ) {
+            currentValueBarArc.setLength(valueGeometry.arcLength);
+            currentValueBarArc.setOpacity(valueGeometry.arcOpacity);
+        }
+
+    }
+
+    /**
+     * Update the current value bar and the indicator rotation from the
+     * current values. Does nothing in {@link RenderingMode#CANVAS} mode.
+     */
+    private void updateValueGeometry() {
+
+        if ( indicatorRotate == null ) {
+            return;
+        }
+
+        valueGeometry.compute(getMinValue(), getMaxValue(), getCurrentValue(), getTargetValue(), isZeroDetentEnabled());
+
+        currentValueBarArc.setLength(valueGeometry.arcLength);
+        currentValueBarArc.setOpacity(valueGeometry.arcOpacity);
+        currentValueBarArc.setStartAngle(valueGeometry.arcStart);
+        indicatorRotate.setAngle(valueGeometry.indicatorAngle);
+
+    }
+
+    /**
+     * How {@link KnobEvent#ADJUSTING} and {@link KnobEvent#ADJUSTED} events are
+     * delivered when current or target value change.
+     */
+    public enum EventPolicy {
+
+        /**
+         * An event is fired at every change of the current or target value.
+         */
+        EVERY_CHANGE,
+
+        /**
+         * An event is fired only on transitions between the adjusting and the
+         * adjusted states.
+         */
+        EDGE_TRIGGERED,
+
+        /**
+         * Transitions between the adjusting and the adjusted states are always
+         * fired, while repeated events of the same type are limited to
+         * {@link Knob#getMaxEventRate()} per second.
+         */
+        THROTTLED
+
+    }
+
+    /**
+     * How a {@link Knob} is rendered.
+     */
+    public enum RenderingMode {
+
+        /**
+         * The knob is made of a scene graph of shapes, texts and effects.
+         */
+        NODES,
+
+        /**
+         * The knob is drawn onto a single {@link javafx.scene.canvas.Canvas},
+         * repainting only the regions changed by current and target value
+         * updates. It is lighter on screens with many knobs.
+         */
+        CANVAS
 
     }
 
@@ -0,0 +1,93 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+
+/**
+ * A single {@link AnimationTimer} shared by all knobs having a
+ * {@link MotionProfile}, moving their current value toward the target one.
+ * <p>
+ * The timer runs only while at least one knob is animating, so that idle
+ * screens do not request pulses.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class KnobAnimator {
+
+    /**
+     * The longest time step, in seconds, used to advance the motions, so that
+     * a stalled application does not make the knobs jump.
+     */
+    private static final double MAX_STEP = 0.1;
+
+    private static final KnobStepList KNOBS = new KnobStepList(Knob::animate, Knob::stopAnimation);
+    private static final AnimationTimer TIMER = new AnimationTimer() {
+        @Override
+        public void handle( long now ) {
+            step(now);
+        }
+    };
+
+    private static long lastPulse;
+
+    /**
+     * Add the given {@code knob} to the animated ones. This method can be
+     * called from any thread.
+     *
+     * @param knob The {@link Knob} to be animated.
+     */
+    static void animate( final Knob knob ) {
+        if ( Platform.isFxApplicationThread() ) {
+            add(knob);
+        } else {
+            Platform.runLater(() -> add(knob));
+        }
+    }
+
+    private static void add( final Knob knob ) {
+
+        if ( KNOBS.add(knob) ) {
+            lastPulse = System.nanoTime();
+            TIMER.start();
+        }
+
+    }
+
+    private static void step( final long now ) {
+
+        final double dt = Math.max(0, Math.min(MAX_STEP, ( now - lastPulse ) * 1E-9));
+
+        lastPulse = now;
+
+        KNOBS.step(dt);
+
+        if ( KNOBS.isEmpty() ) {
+            TIMER.stop();
+        }
+
+    }
+
+    private KnobAnimator() {
+    }
+
+}
@@ -0,0 +1,244 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.StrokeLineCap;
+
+import static se.europeanspallationsource.javafx.control.knobs.Knob.ANGLE_RANGE;
+import static se.europeanspallationsource.javafx.control.knobs.Knob.BAR_START_ANGLE;
+
+
+/**
+ * Process-wide cache of the pre-rendered static background of a knob: the
+ * background disc, the gradient bar, the ring and the main circle, with their
+ * effects. Knobs with the same size, color and gradient stops share the same
+ * image, rasterized once.
+ * <p>
+ * Images are rasterized at {@value #RENDER_SCALE} times the knob size, so
+ * that they stay sharp on HiDPI screens: they must be displayed scaled to
+ * the knob size (e.g. with {@link javafx.scene.image.ImageView#setFitWidth(double)}).</p>
+ * <p>
+ * The cache is LRU, and its memory is capped (estimated at 4 bytes per
+ * pixel). The cap can be set, in bytes, with the
+ * <b>{@value #MAX_BYTES_PROPERTY}</b> system property (default: 32 MiB).</p>
+ * <p>
+ * All methods must be called on the JavaFX Application Thread.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class KnobBackgroundCache {
+
+    static final String MAX_BYTES_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.backgroundCacheSize";
+    static final int RENDER_SCALE = 2;
+
+    private static final Map<Key, Image> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+    private static final long MAX_BYTES = Long.getLong(MAX_BYTES_PROPERTY, 32L * 1024L * 1024L);
+
+    /**
+     * The shadows radius, in knob units. The original knob clamped it into
+     * the [1, 2] range with swapped arguments, always getting 2.
+     */
+    private static final double SHADOW_RADIUS = 2.0;
+
+    private static long bytes = 0;
+
+    /**
+     * Returns the background image for the given parameters, rendering it if
+     * not already cached.
+     *
+     * @param size  The knob size.
+     * @param color The knob color.
+     * @param stops The (not reordered) gradient stops.
+     * @return The background image, {@code size * RENDER_SCALE} pixels wide
+     *         and high.
+     */
+    static Image get( final double size, final Color color, final List<Stop> stops ) {
+
+        final Key key = new Key(size, color, stops);
+        Image image = CACHE.get(key);
+
+        if ( image == null ) {
+
+            image = render(size * RENDER_SCALE, RENDER_SCALE, color, stops);
+
+            CACHE.put(key, image);
+
+            bytes += bytes(image);
+
+            evict();
+
+        }
+
+        return image;
+
+    }
+
+    private static long bytes( final Image image ) {
+        return 4L * (long) image.getWidth() * (long) image.getHeight();
+    }
+
+    /**
+     * Remove the least recently used images until the memory cap is
+     * satisfied. The most recently added image is always kept.
+     */
+    private static void evict() {
+
+        final Iterator<Image> iterator = CACHE.values().iterator();
+
+        while ( bytes > MAX_BYTES && CACHE.size() > 1 && iterator.hasNext() ) {
+
+            bytes -= bytes(iterator.next());
+
+            iterator.remove();
+
+        }
+
+    }
+
+    /**
+     * @param size  The image size, in pixels.
+     * @param scale The ratio between image pixels and knob units.
+     * @param color The knob color.
+     * @param stops The (not reordered) gradient stops.
+     * @return The rendered image.
+     */
+    private static Image render( final double size, final double scale, final Color color, final List<Stop> stops ) {
+
+        final Canvas canvas = new Canvas(size, size);
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        final double center = size * 0.5;
+        final double shadowRadius = SHADOW_RADIUS * scale;
+        final DropShadow dropShadow = new DropShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.65), shadowRadius, 0.0, 0, shadowRadius);
+        final InnerShadow highlight = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(255, 255, 255, 0.20), shadowRadius, 0.0, 0, shadowRadius);
+        final InnerShadow innerShadow = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(0, 0, 0, 0.20), shadowRadius, 0.0, 0, -shadowRadius);
+
+        highlight.setInput(innerShadow);
+        dropShadow.setInput(highlight);
+
+        //  Background disc.
+        gc.setEffect(highlight);
+        gc.setFill(color.darker());
+        gc.fillOval(0, 0, size, size);
+        gc.setEffect(null);
+
+        //  Gradient bar.
+        final double barRadius = size * 0.46;
+
+        gc.setLineCap(StrokeLineCap.ROUND);
+        gc.setLineWidth(size * 0.04);
+        gc.setStroke(GradientPatternCache.get(Knob.reorderStops(stops), size));
+        gc.strokeArc(center - barRadius, center - barRadius, 2 * barRadius, 2 * barRadius, BAR_START_ANGLE, - ANGLE_RANGE, ArcType.OPEN);
+
+        //  Ring.
+        final double outerRadius = size * 0.42;
+        final double innerRadius = size * 0.3;
+
+        gc.setEffect(dropShadow);
+        gc.setFill(color);
+        gc.setFillRule(FillRule.EVEN_ODD);
+        gc.beginPath();
+        gc.moveTo(center + outerRadius, center);
+        gc.arc(center, center, outerRadius, outerRadius, 0, 360);
+        gc.closePath();
+        gc.moveTo(center + innerRadius, center);
+        gc.arc(center, center, innerRadius, innerRadius, 0, 360);
+        gc.closePath();
+        gc.fill();
+        gc.setEffect(null);
+
+        //  Main circle.
+        gc.setFill(color.darker().darker());
+        gc.fillOval(center - innerRadius, center - innerRadius, 2 * innerRadius, 2 * innerRadius);
+
+        final SnapshotParameters parameters = new SnapshotParameters();
+
+        parameters.setFill(Color.TRANSPARENT);
+
+        return canvas.snapshot(parameters, null);
+
+    }
+
+    private KnobBackgroundCache() {
+    }
+
+    private static final class Key {
+
+        private final Color color;
+        private final int hash;
+        private final double size;
+        private final List<Stop> stops;
+
+        Key( final double size, final Color color, final List<Stop> stops ) {
+
+            this.color = color;
+            this.size = size;
+            this.stops = ( stops == null ) ? new ArrayList<>(0) : new ArrayList<>(stops);
+
+            int h = Double.hashCode(size);
+
+            h = 31 * h + Objects.hashCode(color);
+            h = 31 * h + this.stops.hashCode();
+
+            this.hash = h;
+
+        }
+
+        @Override
+        public boolean equals( Object obj ) {
+
+            if ( this == obj ) {
+                return true;
+            } else if ( !( obj instanceof Key ) ) {
+                return false;
+            }
+
+            final Key other = (Key) obj;
+
+            return Double.doubleToLongBits(size) == Double.doubleToLongBits(other.size)
+                && Objects.equals(color, other.color)
+                && stops.equals(other.stops);
+
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
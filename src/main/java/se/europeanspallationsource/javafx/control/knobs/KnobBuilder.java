@@ -18,11 +18,8 @@ package se.europeanspallationsource.javafx.control.knobs;
 
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import javafx.event.EventHandler;
-import javafx.geometry.Dimension2D;
 import javafx.geometry.Insets;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Stop;
@@ -41,170 +38,26 @@ public class KnobBuilder {
         return new KnobBuilder();
     }
 
-    final Map<String, Object> properties = new HashMap<>(4);
+    final KnobSpec.Builder spec = KnobSpec.builder();
 
     protected KnobBuilder() {
     }
 
     public final KnobBuilder backgroundColor( final Color color ) {
 
-        properties.put("backgroundColor", color);
+        spec.backgroundColor(color);
 
         return this;
 
     }
 
-    @SuppressWarnings( "unchecked" )
     public Knob build() {
-
-        final Knob knob = new Knob();
-
-        //  Inter-dependent properties.
-        if ( properties.containsKey("minValue") ) {
-            knob.setMinValue((double) properties.get("minValue"));
-        }
-        if ( properties.containsKey("maxValue") ) {
-            knob.setMaxValue((double) properties.get("maxValue"));
-        }
-        if ( properties.containsKey("currentValue") ) {
-            knob.setCurrentValue((double) properties.get("currentValue"));
-        }
-
-        //  All other properties.
-        if ( properties.containsKey("backgroundColor") ) {
-            knob.setBackgroundColor((Color) properties.get("backgroundColor"));
-        }
-        if ( properties.containsKey("color") ) {
-            knob.setColor((Color) properties.get("color"));
-        }
-        if ( properties.containsKey("currentValueColor") ) {
-            knob.setCurrentValueColor((Color) properties.get("currentValueColor"));
-        }
-        if ( properties.containsKey("decimals") ) {
-            knob.setDecimals((int) properties.get("decimals"));
-        }
-        if ( properties.containsKey("dragDisabled") ) {
-            knob.setDragDisabled((boolean) properties.get("dragDisabled"));
-        }
-        if ( properties.containsKey("extremaVisible") ) {
-            knob.setExtremaVisible((boolean) properties.get("extremaVisible"));
-        }
-        if ( properties.containsKey("gradientStops") ) {
-            knob.setGradientStops((List<Stop>) properties.get("gradientStops"));
-        }
-        if ( properties.containsKey("id") ) {
-            knob.setId((String) properties.get("id"));
-        }
-        if ( properties.containsKey("indicatorColor") ) {
-            knob.setIndicatorColor((Color) properties.get("indicatorColor"));
-        }
-        if ( properties.containsKey("layoutX") ) {
-            knob.setLayoutX((double) properties.get("layoutX"));
-        }
-        if ( properties.containsKey("layoutY") ) {
-            knob.setLayoutY((double) properties.get("layoutY"));
-        }
-        if ( properties.containsKey("maxHeight") ) {
-            knob.setMaxHeight((double) properties.get("maxHeight"));
-        }
-        if ( properties.containsKey("maxSize") ) {
-            
-            Dimension2D maxSize = (Dimension2D) properties.get("maxSize");
-            
-            knob.setMaxSize(maxSize.getWidth(), maxSize.getHeight());
-
-        }
-        if ( properties.containsKey("maxWidth") ) {
-            knob.setMaxWidth((double) properties.get("maxWidth"));
-        }
-        if ( properties.containsKey("minHeight") ) {
-            knob.setMinHeight((double) properties.get("minHeight"));
-        }
-        if ( properties.containsKey("minSize") ) {
-
-            Dimension2D minSize = (Dimension2D) properties.get("minSize");
-
-            knob.setMinSize(minSize.getWidth(), minSize.getHeight());
-
-        }
-        if ( properties.containsKey("minWidth") ) {
-            knob.setMinWidth((double) properties.get("minWidth"));
-        }
-        if ( properties.containsKey("onAdjusted") ) {
-            knob.setOnAdjusted((EventHandler<KnobEvent>) properties.get("onAdjusted"));
-        }
-        if ( properties.containsKey("onAdjusting") ) {
-            knob.setOnAdjusting((EventHandler<KnobEvent>) properties.get("onAdjusting"));
-        }
-        if ( properties.containsKey("onTargetSet") ) {
-            knob.setOnTargetSet((EventHandler<KnobEvent>) properties.get("onTargetSet"));
-        }
-        if ( properties.containsKey("opacity") ) {
-            knob.setOpacity((double) properties.get("opacity"));
-        }
-        if ( properties.containsKey("padding") ) {
-            knob.setPadding((Insets) properties.get("padding"));
-        }
-        if ( properties.containsKey("prefHeight") ) {
-            knob.setPrefHeight((double) properties.get("prefHeight"));
-        }
-        if ( properties.containsKey("prefSize") ) {
-
-            Dimension2D size = (Dimension2D) properties.get("prefSize");
-
-            knob.setPrefSize(size.getWidth(), size.getHeight());
-
-        }
-        if ( properties.containsKey("prefWidth") ) {
-            knob.setPrefWidth((double) properties.get("prefWidth"));
-        }
-        if ( properties.containsKey("scaleX") ) {
-            knob.setScaleX((double) properties.get("scaleX"));
-        }
-        if ( properties.containsKey("scaleY") ) {
-            knob.setScaleY((double) properties.get("scaleY"));
-        }
-        if ( properties.containsKey("selected") ) {
-            knob.setSelected((boolean) properties.get("selected"));
-        }
-        if ( properties.containsKey("selectionColor") ) {
-            knob.setSelectionColor((Color) properties.get("selectionColor"));
-        }
-        if ( properties.containsKey("tagColor") ) {
-            knob.setTagColor((Color) properties.get("tagColor"));
-        }
-        if ( properties.containsKey("tagVisible") ) {
-            knob.setTagVisible((boolean) properties.get("tagVisible"));
-        }
-        if ( properties.containsKey("targetValueAlwaysVisible") ) {
-            knob.setTargetValueAlwaysVisible((boolean) properties.get("targetValueAlwaysVisible"));
-        }
-        if ( properties.containsKey("targetValue") ) {
-            knob.setTargetValue((double) properties.get("targetValue"));
-        }
-        if ( properties.containsKey("textColor") ) {
-            knob.setTextColor((Color) properties.get("textColor"));
-        }
-        if ( properties.containsKey("translateX") ) {
-            knob.setTranslateX((double) properties.get("translateX"));
-        }
-        if ( properties.containsKey("translateY") ) {
-            knob.setTranslateY((double) properties.get("translateY"));
-        }
-        if ( properties.containsKey("unit") ) {
-            knob.setUnit((String) properties.get("unit"));
-        }
-        if ( properties.containsKey("zeroDetentEnabled") ) {
-            knob.setZeroDetentEnabled((boolean) properties.get("zeroDetentEnabled"));
-        }
-
-        return knob;
-
+        return spec.build().newKnob();
     }
 
     public final KnobBuilder color( final Color color ) {
 
-        properties.put("color", color);
+        spec.color(color);
 
         return this;
 
@@ -212,7 +65,7 @@ public class KnobBuilder {
 
     public final KnobBuilder currentValue( final double value ) {
 
-        properties.put("currentValue", value);
+        spec.currentValue(value);
 
         return this;
 
@@ -220,7 +73,7 @@ public class KnobBuilder {
 
     public final KnobBuilder currentValueColor( final Color color ) {
 
-        properties.put("currentValueColor", color);
+        spec.currentValueColor(color);
 
         return this;
 
@@ -228,7 +81,7 @@ public class KnobBuilder {
 
     public final KnobBuilder decimals( final int decimals ) {
 
-        properties.put("decimals", decimals);
+        spec.decimals(decimals);
 
         return this;
 
@@ -236,7 +89,23 @@ public class KnobBuilder {
 
     public final KnobBuilder dragDisabled( final boolean value ) {
 
-        properties.put("dragDisabled", value);
+        spec.dragDisabled(value);
+
+        return this;
+
+    }
+
+    public final KnobBuilder dragStep( final double step ) {
+
+        spec.dragStep(step);
+
+        return this;
+
+    }
+
+    public final KnobBuilder eventPolicy( final Knob.EventPolicy policy ) {
+
+        spec.eventPolicy(policy);
 
         return this;
 
@@ -244,7 +113,7 @@ public class KnobBuilder {
 
     public final KnobBuilder extremaVisible( final boolean value ) {
 
-        properties.put("extremaVisible", value);
+        spec.extremaVisible(value);
 
         return this;
 
@@ -256,7 +125,7 @@ public class KnobBuilder {
 
     public final KnobBuilder gradientStops( final List<Stop> stops ) {
 
-        properties.put("gradientStops", stops);
+        spec.gradientStops(stops);
 
         return this;
 
@@ -264,7 +133,7 @@ public class KnobBuilder {
 
     public final KnobBuilder id( final String unit ) {
 
-        properties.put("id", unit);
+        spec.id(unit);
 
         return this;
 
@@ -272,7 +141,7 @@ public class KnobBuilder {
 
     public final KnobBuilder indicatorColor( final Color color ) {
 
-        properties.put("indicatorColor", color);
+        spec.indicatorColor(color);
 
         return this;
 
@@ -280,7 +149,7 @@ public class KnobBuilder {
 
     public final KnobBuilder layoutX( final double scale ) {
 
-        properties.put("layoutX", scale);
+        spec.layoutX(scale);
 
         return this;
 
@@ -288,7 +157,15 @@ public class KnobBuilder {
 
     public final KnobBuilder layoutY( final double scale ) {
 
-        properties.put("layoutY", scale);
+        spec.layoutY(scale);
+
+        return this;
+
+    }
+
+    public final KnobBuilder maxEventRate( final double rate ) {
+
+        spec.maxEventRate(rate);
 
         return this;
 
@@ -296,7 +173,7 @@ public class KnobBuilder {
 
     public final KnobBuilder maxHeight( final double height ) {
 
-        properties.put("maxHeight", height);
+        spec.maxHeight(height);
 
         return this;
 
@@ -304,7 +181,7 @@ public class KnobBuilder {
 
     public final KnobBuilder maxSize( final double width, final double height ) {
 
-        properties.put("maxSize", new Dimension2D(width, height));
+        spec.maxSize(width, height);
 
         return this;
 
@@ -312,7 +189,7 @@ public class KnobBuilder {
 
     public final KnobBuilder maxValue( final double value ) {
 
-        properties.put("maxValue", value);
+        spec.maxValue(value);
 
         return this;
 
@@ -320,7 +197,7 @@ public class KnobBuilder {
 
     public final KnobBuilder maxWidth( final double width ) {
 
-        properties.put("maxWidth", width);
+        spec.maxWidth(width);
 
         return this;
 
@@ -328,7 +205,7 @@ public class KnobBuilder {
 
     public final KnobBuilder minHeight( final double height ) {
 
-        properties.put("minHeight", height);
+        spec.minHeight(height);
 
         return this;
 
@@ -336,7 +213,7 @@ public class KnobBuilder {
 
     public final KnobBuilder minSize( final double width, final double height ) {
 
-        properties.put("minSize", new Dimension2D(width, height));
+        spec.minSize(width, height);
 
         return this;
 
@@ -344,7 +221,7 @@ public class KnobBuilder {
 
     public final KnobBuilder minValue( final double value ) {
 
-        properties.put("minValue", value);
+        spec.minValue(value);
 
         return this;
 
@@ -352,7 +229,15 @@ public class KnobBuilder {
 
     public final KnobBuilder minWidth( final double width ) {
 
-        properties.put("minWidth", width);
+        spec.minWidth(width);
+
+        return this;
+
+    }
+
+    public final KnobBuilder motionProfile( final MotionProfile profile ) {
+
+        spec.motionProfile(profile);
 
         return this;
 
@@ -360,7 +245,7 @@ public class KnobBuilder {
 
     public final KnobBuilder onAdjusted( final EventHandler<KnobEvent> handler ) {
 
-        properties.put("onAdjusted", handler);
+        spec.onAdjusted(handler);
 
         return this;
 
@@ -368,7 +253,15 @@ public class KnobBuilder {
 
     public final KnobBuilder onAdjusting( final EventHandler<KnobEvent> handler ) {
 
-        properties.put("onAdjusting", handler);
+        spec.onAdjusting(handler);
+
+        return this;
+
+    }
+
+    public final KnobBuilder onRampStep( final EventHandler<KnobEvent> handler ) {
+
+        spec.onRampStep(handler);
 
         return this;
 
@@ -376,7 +269,7 @@ public class KnobBuilder {
 
     public final KnobBuilder onTargetSet( final EventHandler<KnobEvent> handler ) {
 
-        properties.put("onTargetSet", handler);
+        spec.onTargetSet(handler);
 
         return this;
 
@@ -384,7 +277,7 @@ public class KnobBuilder {
 
     public final KnobBuilder opacity( final double opacity ) {
 
-        properties.put("opacity", opacity);
+        spec.opacity(opacity);
 
         return this;
 
@@ -400,7 +293,7 @@ public class KnobBuilder {
 
     public final KnobBuilder padding( final Insets insets ) {
 
-        properties.put("padding", insets);
+        spec.padding(insets);
 
         return this;
 
@@ -408,7 +301,7 @@ public class KnobBuilder {
 
     public final KnobBuilder prefHeight( final double height ) {
 
-        properties.put("prefHeight", height);
+        spec.prefHeight(height);
 
         return this;
 
@@ -416,7 +309,7 @@ public class KnobBuilder {
 
     public final KnobBuilder prefSize( final double width, final double height ) {
 
-        properties.put("prefSize", new Dimension2D(width, height));
+        spec.prefSize(width, height);
 
         return this;
 
@@ -424,7 +317,23 @@ public class KnobBuilder {
 
     public final KnobBuilder prefWidth( final double width ) {
 
-        properties.put("prefWidth", width);
+        spec.prefWidth(width);
+
+        return this;
+
+    }
+
+    public final KnobBuilder rampRate( final double rate ) {
+
+        spec.rampRate(rate);
+
+        return this;
+
+    }
+
+    public final KnobBuilder renderingMode( final Knob.RenderingMode mode ) {
+
+        spec.renderingMode(mode);
 
         return this;
 
@@ -432,7 +341,7 @@ public class KnobBuilder {
 
     public final KnobBuilder scaleX( final double scale ) {
 
-        properties.put("scaleX", scale);
+        spec.scaleX(scale);
 
         return this;
 
@@ -440,7 +349,7 @@ public class KnobBuilder {
 
     public final KnobBuilder scaleY( final double scale ) {
 
-        properties.put("scaleY", scale);
+        spec.scaleY(scale);
 
         return this;
 
@@ -448,7 +357,7 @@ public class KnobBuilder {
 
     public final KnobBuilder selected( final boolean value ) {
 
-        properties.put("selected", value);
+        spec.selected(value);
 
         return this;
 
@@ -456,7 +365,7 @@ public class KnobBuilder {
 
     public final KnobBuilder selectionColor( final Color color ) {
 
-        properties.put("selectionColor", color);
+        spec.selectionColor(color);
 
         return this;
 
@@ -464,7 +373,7 @@ public class KnobBuilder {
 
     public final KnobBuilder tagColor( final Color color ) {
 
-        properties.put("tagColor", color);
+        spec.tagColor(color);
 
         return this;
 
@@ -472,7 +381,7 @@ public class KnobBuilder {
 
     public final KnobBuilder tagVisible( final boolean value ) {
 
-        properties.put("tagVisible", value);
+        spec.tagVisible(value);
 
         return this;
 
@@ -480,7 +389,7 @@ public class KnobBuilder {
 
     public final KnobBuilder targetValue( final double value ) {
 
-        properties.put("targetValue", value);
+        spec.targetValue(value);
 
         return this;
 
@@ -488,7 +397,7 @@ public class KnobBuilder {
 
     public final KnobBuilder targetValueAlwaysVisible( final boolean value ) {
 
-        properties.put("targetValueAlwaysVisible", value);
+        spec.targetValueAlwaysVisible(value);
 
         return this;
 
@@ -496,15 +405,23 @@ public class KnobBuilder {
 
     public final KnobBuilder textColor( final Color color ) {
 
-        properties.put("textColor", color);
+        spec.textColor(color);
 
         return this;
 
     }
 
+    /**
+     * @return An immutable {@link KnobSpec} with the properties set so far,
+     *         that can be reused to create many knobs.
+     */
+    public final KnobSpec toSpec() {
+        return spec.build();
+    }
+
     public final KnobBuilder translateX( final double scale ) {
 
-        properties.put("translateX", scale);
+        spec.translateX(scale);
 
         return this;
 
@@ -512,7 +429,7 @@ public class KnobBuilder {
 
     public final KnobBuilder translateY( final double scale ) {
 
-        properties.put("translateY", scale);
+        spec.translateY(scale);
 
         return this;
 
@@ -520,7 +437,7 @@ public class KnobBuilder {
 
     public final KnobBuilder unit( final String unit ) {
 
-        properties.put("unit", unit);
+        spec.unit(unit);
 
         return this;
 
@@ -528,7 +445,7 @@ public class KnobBuilder {
 
     public final KnobBuilder zeroDetentEnabled( final boolean value ) {
 
-        properties.put("zeroDetentEnabled", value);
+        spec.zeroDetentEnabled(value);
 
         return this;
 
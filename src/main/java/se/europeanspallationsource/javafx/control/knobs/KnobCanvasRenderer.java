@@ -0,0 +1,597 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.Image;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.ArcType;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+import static se.europeanspallationsource.javafx.control.knobs.Knob.ANGLE_RANGE;
+import static se.europeanspallationsource.javafx.control.knobs.Knob.BAR_START_ANGLE;
+
+
+/**
+ * Draws a {@link Knob} onto a single {@link Canvas}, instead of using a scene
+ * graph of shapes, texts and effects (see {@link Knob.RenderingMode#CANVAS}).
+ * <p>
+ * The elements that do not depend on the current and target values are the
+ * background, the gradient bar, the ring and the main circle, taken from the
+ * image shared by all knobs with the same size, color and gradient stops
+ * (see {@link KnobBackgroundCache}), and the unit and extrema texts, fitted
+ * only when one of the properties they depend on changes. When the current
+ * or target value changes, only the regions whose content changed are
+ * restored from the background image and repainted.</p>
+ * <p>
+ * Repaints are coalesced and executed at most once per pulse.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class KnobCanvasRenderer {
+
+    /*
+     * Regions, relative to the knob size, containing the current and target
+     * value texts.
+     */
+    private static final double[] TARGET_TEXT_BOX = { 0.29, 0.24, 0.42, 0.17 };
+    private static final double[] TEXT_BOX        = { 0.24, 0.32, 0.52, 0.30 };
+
+    private final Canvas canvas = new Canvas();
+    private final double[] dirty = new double[4];
+    private final KnobDragTracker dragTracker;
+    private boolean dragging = false;
+    private volatile FixedPointFormat format;
+    private boolean fullRepaintNeeded = true;
+    private final GraphicsContext gc;
+    private KnobGeometry geometry = KnobGeometry.of(0);
+    private DropShadow indicatorGlow;
+    private InnerShadow indicatorHighlight;
+    private InnerShadow indicatorInnerShadow;
+    private final Knob knob;
+    private double paintedArcEnd = Double.NaN;
+    private double paintedArcOpacity = Double.NaN;
+    private double paintedIndicatorAngle = Double.NaN;
+    private boolean paintedTargetTextVisible = false;
+    private final Pane pane;
+    private final InvalidationListener qualityListener = this::qualityInvalidated;
+    private final AtomicBoolean repaintScheduled = new AtomicBoolean(false);
+    private final Runnable repainter = this::paint;
+    private double size = 0;
+    private Image staticLayer;
+    private boolean staticLayerDirty = true;
+    private final Text targetText = new Text();
+    private final Text text = new Text();
+    private final Text textMax = new Text();
+    private final Text textMin = new Text();
+    private final Text unitText = new Text();
+    private final KnobValueGeometry valueGeometry = new KnobValueGeometry();
+
+    KnobCanvasRenderer( final Knob knob ) {
+
+        this.knob = knob;
+        this.dragTracker = new KnobDragTracker(knob);
+        this.format = new FixedPointFormat(knob.getDecimals());
+        this.gc = canvas.getGraphicsContext2D();
+        this.pane = new Pane(canvas);
+
+        initEffects();
+        initListeners();
+        initMouseHandlers();
+
+    }
+
+    /**
+     * @return The container of the canvas, to be added to the knob.
+     */
+    Pane getPane() {
+        return pane;
+    }
+
+    /**
+     * Get again the background image for the current size, when it was
+     * deferred by {@link #resize(double, boolean)}.
+     */
+    void refreshStaticLayer() {
+        staticLayerDirty = true;
+        scheduleRepaint();
+    }
+
+    /**
+     * Resize the canvas and repaint it immediately. Must be called on the
+     * JavaFX Application Thread.
+     *
+     * @param size            The new knob size.
+     * @param deferBackground {@code true} if the current background image
+     *                        must be stretched to the new size, until
+     *                        {@link #refreshStaticLayer()} is called.
+     */
+    void resize( final double size, final boolean deferBackground ) {
+
+        this.size = size;
+
+        canvas.setWidth(size);
+        canvas.setHeight(size);
+
+        geometry = KnobGeometry.of(size);
+
+        KnobQuality.configureIndicatorEffects(geometry, indicatorGlow, indicatorHighlight, indicatorInnerShadow);
+
+        text.setFont(geometry.textFont);
+        targetText.setFont(geometry.targetTextFont);
+        unitText.setFont(geometry.unitTextFont);
+        textMin.setFont(geometry.extremaFont);
+        textMax.setFont(geometry.extremaFont);
+
+        //  Force re-fitting texts for the new size.
+        text.setText(null);
+        targetText.setText(null);
+
+        if ( deferBackground && staticLayer != null ) {
+            fitStaticTexts();
+            fullRepaintNeeded = true;
+        } else {
+            staticLayerDirty = true;
+        }
+
+        paint();
+
+    }
+
+    /**
+     * @param angle  The angle in degrees, counter-clockwise from the X axis.
+     * @param radius The distance from the knob center.
+     * @param pad    The padding to be added around the point.
+     */
+    private void addPointToDirtyRegion( final double angle, final double radius, final double pad ) {
+
+        double center = size * 0.5;
+        double x = center + radius * Math.cos(Math.toRadians(angle));
+        double y = center - radius * Math.sin(Math.toRadians(angle));
+
+        addToDirtyRegion(x - pad, y - pad, 2 * pad, 2 * pad);
+
+    }
+
+    /**
+     * Add to the dirty region the bounds of the arc, centered in the knob,
+     * between the given angles.
+     */
+    private void addArcToDirtyRegion( final double fromAngle, final double toAngle, final double radius, final double pad ) {
+
+        double from = Math.min(fromAngle, toAngle);
+        double to   = Math.max(fromAngle, toAngle);
+
+        addPointToDirtyRegion(from, radius, pad);
+        addPointToDirtyRegion(to, radius, pad);
+
+        //  Extremes on the axes crossed by the arc.
+        for ( double a = Math.ceil(from / 90.0) * 90.0; a < to; a += 90.0 ) {
+            addPointToDirtyRegion(a, radius, pad);
+        }
+
+    }
+
+    private void addBoxToDirtyRegion( final double[] box ) {
+        addToDirtyRegion(box[0] * size, box[1] * size, box[2] * size, box[3] * size);
+    }
+
+    private void addToDirtyRegion( final double x, final double y, final double w, final double h ) {
+        dirty[0] = Math.min(dirty[0], x);
+        dirty[1] = Math.min(dirty[1], y);
+        dirty[2] = Math.max(dirty[2], x + w);
+        dirty[3] = Math.max(dirty[3], y + h);
+    }
+
+    /**
+     * Fit the unit and extrema texts for the current size.
+     */
+    private void fitStaticTexts() {
+
+        unitText.setText(knob.getUnit());
+        FontFitter.fit(unitText, geometry.targetTextWidth, geometry.targetTextFontSize, knob.getMetrics());
+
+        if ( knob.isExtremaVisible() ) {
+            format.apply(textMin, knob.getMinValue());
+            format.apply(textMax, knob.getMaxValue());
+            FontFitter.fit(textMin, geometry.extremaWidth, geometry.extremaFontSize, knob.getMetrics());
+            FontFitter.fit(textMax, geometry.extremaWidth, geometry.extremaFontSize, knob.getMetrics());
+        }
+
+    }
+
+    private Color indicatorColor( final boolean stroke ) {
+
+        Color c = knob.isSelected() ? knob.getSelectionColor() : knob.getIndicatorColor();
+
+        if ( stroke ) {
+            c = c.darker().darker();
+        }
+
+        return knob.isDragDisabled() ? c.deriveColor(0, 1, 0.92, 0.6) : c;
+
+    }
+
+    private void initEffects() {
+
+        indicatorGlow        = new DropShadow (BlurType.TWO_PASS_BOX, knob.getSelectionColor(),       Knob.PREFERRED_WIDTH * 0.020, 0.0, 0, 0);
+        indicatorInnerShadow = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(  0,   0,   0, 0.50), Knob.PREFERRED_WIDTH * 0.008, 0.0, 0,  Knob.PREFERRED_WIDTH * 0.008);
+        indicatorHighlight   = new InnerShadow(BlurType.TWO_PASS_BOX, Color.rgb(255, 255, 255, 0.35), Knob.PREFERRED_WIDTH * 0.008, 0.0, 0, -Knob.PREFERRED_WIDTH * 0.008);
+
+        indicatorHighlight.setInput(indicatorInnerShadow);
+        indicatorGlow.setInput(indicatorHighlight);
+
+        text.setTextOrigin(VPos.CENTER);
+        targetText.setTextOrigin(VPos.CENTER);
+        unitText.setTextOrigin(VPos.CENTER);
+        textMin.setTextOrigin(VPos.CENTER);
+        textMax.setTextOrigin(VPos.CENTER);
+
+    }
+
+    private void initListeners() {
+
+        final InvalidationListener staticListener = this::staticPropertyInvalidated;
+        final InvalidationListener dynamicListener = this::dynamicPropertyInvalidated;
+        final InvalidationListener valueListener = o -> scheduleRepaint();
+
+        knob.colorProperty().addListener(staticListener);
+        knob.decimalsProperty().addListener(staticListener);
+        knob.extremaVisibleProperty().addListener(staticListener);
+        knob.gradientStopsProperty().addListener(staticListener);
+        knob.maxValueProperty().addListener(staticListener);
+        knob.minValueProperty().addListener(staticListener);
+        knob.textColorProperty().addListener(staticListener);
+        knob.unitProperty().addListener(staticListener);
+
+        knob.currentValueColorProperty().addListener(dynamicListener);
+        knob.dragDisabledProperty().addListener(dynamicListener);
+        knob.indicatorColorProperty().addListener(dynamicListener);
+        knob.selectedProperty().addListener(dynamicListener);
+        knob.selectionColorProperty().addListener(dynamicListener);
+        knob.tagColorProperty().addListener(dynamicListener);
+        knob.tagVisibleProperty().addListener(dynamicListener);
+        knob.targetValueAlwaysVisibleProperty().addListener(dynamicListener);
+        knob.zeroDetentEnabledProperty().addListener(dynamicListener);
+
+        //  Current and target value changes are handled by repainting only
+        //  the regions that differ from what was painted last time.
+        knob.currentValueProperty().addListener(valueListener);
+        knob.targetValueProperty().addListener(valueListener);
+
+        KnobQuality.addListener(qualityListener);
+
+    }
+
+    private void initMouseHandlers() {
+
+        canvas.addEventFilter(MouseEvent.ANY, e -> {
+            //  Enable only left-click events.
+            if ( !e.getButton().equals(MouseButton.PRIMARY) ) {
+                e.consume();
+            }
+        });
+        canvas.addEventHandler(MouseEvent.MOUSE_PRESSED, e -> {
+
+            double radius = radius(e);
+
+            dragging = radius >= size * 0.3 && radius <= size * 0.42;
+
+            if ( dragging && !knob.isDisabled() && !knob.isDragDisabled() ) {
+                dragTracker.begin(e.getSceneX(), e.getSceneY());
+            }
+
+        });
+        canvas.addEventHandler(MouseEvent.MOUSE_DRAGGED, e -> {
+            if ( dragging && !knob.isDisabled() && !knob.isDragDisabled() ) {
+                dragTracker.drag(e.getSceneX(), e.getSceneY());
+            }
+        });
+        canvas.addEventHandler(MouseEvent.MOUSE_RELEASED, e -> {
+
+            if ( dragging && !knob.isDisabled() && !knob.isDragDisabled() ) {
+                dragTracker.end();
+                knob.fireTargeValueSet();
+            }
+
+            dragging = false;
+
+        });
+        canvas.addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
+            if ( e.getClickCount() == 2 && radius(e) < size * 0.3 ) {
+                knob.openEditor();
+            }
+        });
+
+    }
+
+    private void dynamicPropertyInvalidated( final Observable observable ) {
+        fullRepaintNeeded = true;
+        scheduleRepaint();
+    }
+
+    private void fillText( final Text source, final double centerX, final double top, final Paint fill ) {
+        gc.setFont(source.getFont());
+        gc.setFill(fill);
+        gc.fillText(source.getText(), centerX, top + source.getLayoutBounds().getHeight() * 0.5);
+    }
+
+    /**
+     * Repaint what changed since the last call. Must be called on the JavaFX
+     * Application Thread.
+     */
+    private void paint() {
+
+        repaintScheduled.set(false);
+
+        if ( size <= 0 ) {
+            return;
+        }
+
+        if ( staticLayerDirty ) {
+
+            updateStaticLayer();
+
+            staticLayerDirty = false;
+            fullRepaintNeeded = true;
+
+        }
+
+        valueGeometry.compute(knob.getMinValue(), knob.getMaxValue(), knob.getCurrentValue(), knob.getTargetValue(), knob.isZeroDetentEnabled());
+
+        final double arcStart = valueGeometry.arcStart;
+        final double arcOpacity = valueGeometry.arcOpacity;
+        double arcEnd = arcStart + valueGeometry.arcLength;
+
+        //  Bar changes shorter than a pixel are not repainted.
+        if ( !fullRepaintNeeded && arcOpacity == paintedArcOpacity && Math.abs(arcEnd - paintedArcEnd) < geometry.arcDeadband ) {
+            arcEnd = paintedArcEnd;
+        }
+
+        final double indicatorAngle = valueGeometry.indicatorAngle;
+        final boolean targetTextVisible = knob.isTargetValueAlwaysVisible() || !knob.isOnTarget();
+        final boolean textChanged = format.apply(text, knob.getCurrentValue());
+        final boolean targetTextChanged = format.apply(targetText, knob.getTargetValue());
+
+        if ( textChanged ) {
+            FontFitter.fit(text, geometry.textWidth, geometry.textFontSize, knob.getMetrics());
+        }
+        if ( targetTextChanged ) {
+            FontFitter.fit(targetText, geometry.targetTextWidth, geometry.targetTextFontSize, knob.getMetrics());
+        }
+
+        if ( fullRepaintNeeded ) {
+            dirty[0] = 0;
+            dirty[1] = 0;
+            dirty[2] = size;
+            dirty[3] = size;
+        } else {
+
+            dirty[0] = Double.MAX_VALUE;
+            dirty[1] = Double.MAX_VALUE;
+            dirty[2] = - Double.MAX_VALUE;
+            dirty[3] = - Double.MAX_VALUE;
+
+            final double barPad = size * 0.02 + 1;
+
+            if ( arcOpacity != paintedArcOpacity ) {
+                addArcToDirtyRegion(BAR_START_ANGLE, BAR_START_ANGLE - ANGLE_RANGE, size * 0.46, barPad);
+            } else if ( arcEnd != paintedArcEnd ) {
+                addArcToDirtyRegion(paintedArcEnd, arcEnd, size * 0.46, barPad);
+            }
+
+            if ( indicatorAngle != paintedIndicatorAngle ) {
+
+                final double indicatorPad = size * 0.07 + 1;
+
+                //  Canvas angles are counter-clockwise from the X axis, while
+                //  the indicator rotation is clockwise from the Y axis.
+                addPointToDirtyRegion(90 - paintedIndicatorAngle, size * 0.36, indicatorPad);
+                addPointToDirtyRegion(90 - indicatorAngle, size * 0.36, indicatorPad);
+
+            }
+
+            if ( textChanged ) {
+                addBoxToDirtyRegion(TEXT_BOX);
+            }
+
+            if ( targetTextChanged || targetTextVisible != paintedTargetTextVisible ) {
+                addBoxToDirtyRegion(TARGET_TEXT_BOX);
+            }
+
+            if ( dirty[2] <= dirty[0] || dirty[3] <= dirty[1] ) {
+                return;
+            }
+
+            dirty[0] = Math.max(0, Math.floor(dirty[0]));
+            dirty[1] = Math.max(0, Math.floor(dirty[1]));
+            dirty[2] = Math.min(size, Math.ceil(dirty[2]));
+            dirty[3] = Math.min(size, Math.ceil(dirty[3]));
+
+        }
+
+        final double x = dirty[0];
+        final double y = dirty[1];
+        final double w = dirty[2] - dirty[0];
+        final double h = dirty[3] - dirty[1];
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(x, y, w, h);
+        gc.clip();
+        gc.clearRect(x, y, w, h);
+        //  The background image can be of a different size while a resize
+        //  gesture is in progress.
+        final double scale = staticLayer.getWidth() / size;
+
+        gc.drawImage(staticLayer, x * scale, y * scale, w * scale, h * scale, x, y, w, h);
+        paintStaticTexts();
+        paintDynamicLayer(arcStart, arcEnd - arcStart, arcOpacity, indicatorAngle, targetTextVisible);
+        gc.restore();
+
+        fullRepaintNeeded = false;
+        paintedArcEnd = arcEnd;
+        paintedArcOpacity = arcOpacity;
+        paintedIndicatorAngle = indicatorAngle;
+        paintedTargetTextVisible = targetTextVisible;
+
+    }
+
+    private void paintDynamicLayer( final double arcStart, final double arcLength, final double arcOpacity, final double indicatorAngle, final boolean targetTextVisible ) {
+
+        final double center = size * 0.5;
+        final double barRadius = size * 0.46;
+
+        gc.setLineCap(StrokeLineCap.ROUND);
+        gc.setLineWidth(size * 0.03);
+
+        //  Current value bar.
+        gc.setGlobalAlpha(arcOpacity);
+        gc.setStroke(knob.getCurrentValueColor());
+        gc.strokeArc(center - barRadius, center - barRadius, 2 * barRadius, 2 * barRadius, arcStart, arcLength, ArcType.OPEN);
+        gc.setGlobalAlpha(1.0);
+
+        //  Texts.
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+
+        fillText(text, center, size * 0.33, knob.getTextColor());
+
+        if ( targetTextVisible ) {
+            fillText(targetText, center, size * 0.25, knob.getTextColor().darker());
+        }
+
+        //  Tag.
+        if ( knob.isTagVisible() ) {
+            gc.setStroke(knob.getTagColor());
+            gc.strokeArc(center - barRadius, center - barRadius, 2 * barRadius, 2 * barRadius, BAR_START_ANGLE + 15, 50, ArcType.OPEN);
+        }
+
+        //  Indicator.
+        final double indicatorRadius = size * 0.032;
+        final double distance = size * 0.36;
+        final double ix = center + distance * Math.sin(Math.toRadians(indicatorAngle));
+        final double iy = center - distance * Math.cos(Math.toRadians(indicatorAngle));
+
+        indicatorGlow.setColor(knob.getSelectionColor());
+        if ( KnobQuality.getLevel() != KnobQuality.Level.NONE ) {
+            gc.setEffect(knob.isSelected() ? indicatorGlow : indicatorHighlight);
+        }
+        gc.setFill(indicatorColor(false));
+        gc.fillOval(ix - indicatorRadius, iy - indicatorRadius, 2 * indicatorRadius, 2 * indicatorRadius);
+        gc.setEffect(null);
+        gc.setLineWidth(1);
+        gc.setStroke(indicatorColor(true));
+        gc.strokeOval(ix - indicatorRadius, iy - indicatorRadius, 2 * indicatorRadius, 2 * indicatorRadius);
+
+    }
+
+    /**
+     * Paint the unit and extrema texts fitted by {@link #updateStaticLayer()}.
+     */
+    private void paintStaticTexts() {
+
+        final double center = size * 0.5;
+        final Color textColor = knob.getTextColor().darker();
+
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+
+        if ( unitText.getText() != null ) {
+            fillText(unitText, center, size * 0.6, textColor);
+        }
+
+        if ( knob.isExtremaVisible() ) {
+
+            gc.setFill(knob.getColor().darker().darker());
+            gc.fillRect(0, size * 0.886, size * 0.27, size * 0.08);
+            gc.fillRect(size * 0.73, size * 0.886, size * 0.27, size * 0.08);
+
+            fillText(textMin, size * 0.135, size * 0.878, textColor);
+            fillText(textMax, size * 0.865, size * 0.878, textColor);
+
+        }
+
+    }
+
+    private void qualityInvalidated( final Observable observable ) {
+        KnobQuality.configureIndicatorEffects(geometry, indicatorGlow, indicatorHighlight, indicatorInnerShadow);
+        dynamicPropertyInvalidated(observable);
+    }
+
+    private double radius( final MouseEvent e ) {
+
+        double dx = e.getX() - size * 0.5;
+        double dy = e.getY() - size * 0.5;
+
+        return Math.sqrt(dx * dx + dy * dy);
+
+    }
+
+    private void scheduleRepaint() {
+        if ( repaintScheduled.compareAndSet(false, true) ) {
+            PulseScheduler.schedule(repainter);
+        }
+    }
+
+    private void staticPropertyInvalidated( final Observable observable ) {
+
+        if ( observable == knob.decimalsProperty() ) {
+
+            format = new FixedPointFormat(knob.getDecimals());
+
+            //  Force re-formatting.
+            text.setText(null);
+            targetText.setText(null);
+
+        }
+
+        staticLayerDirty = true;
+        scheduleRepaint();
+
+    }
+
+    /**
+     * Get the shared background image for the current size, color and
+     * gradient stops, and fit the unit and extrema texts.
+     */
+    private void updateStaticLayer() {
+
+        staticLayer = KnobBackgroundCache.get(size, knob.getColor(), knob.getGradientStops());
+
+        fitStaticTexts();
+
+    }
+
+}
@@ -0,0 +1,178 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * The lightweight model of a channel displayed by a {@link KnobGrid}: range,
+ * current and target values and unit. It holds no JavaFX property, so that
+ * thousands of channels can be kept cheaply.
+ * <p>
+ * Values can be set from any thread: if the channel is currently displayed,
+ * its knob is updated on the next pulse, with all the changes made in the
+ * meantime. The target value is also updated when the user drags the
+ * displayed knob.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+public class KnobChannel {
+
+    private volatile double currentValue;
+    private volatile KnobGrid.Cell cell = null;
+    private volatile double maxValue;
+    private volatile double minValue;
+    private final AtomicBoolean refreshScheduled = new AtomicBoolean(false);
+    private final Runnable refresher = this::refresh;
+    private volatile double targetValue;
+    private volatile String unit;
+
+    public KnobChannel() {
+        this(0, 100, 0, null);
+    }
+
+    /**
+     * @param minValue The channel minimum value.
+     * @param maxValue The channel maximum value.
+     * @param value    The initial current and target value.
+     * @param unit     The channel unit, or {@code null}.
+     */
+    public KnobChannel( final double minValue, final double maxValue, final double value, final String unit ) {
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.currentValue = value;
+        this.targetValue = value;
+        this.unit = unit;
+    }
+
+    public double getCurrentValue() {
+        return currentValue;
+    }
+
+    public void setCurrentValue( final double currentValue ) {
+        this.currentValue = currentValue;
+        changed();
+    }
+
+    public double getMaxValue() {
+        return maxValue;
+    }
+
+    public void setMaxValue( final double maxValue ) {
+        this.maxValue = maxValue;
+        changed();
+    }
+
+    public double getMinValue() {
+        return minValue;
+    }
+
+    public void setMinValue( final double minValue ) {
+        this.minValue = minValue;
+        changed();
+    }
+
+    public double getTargetValue() {
+        return targetValue;
+    }
+
+    public void setTargetValue( final double targetValue ) {
+        this.targetValue = targetValue;
+        changed();
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit( final String unit ) {
+        this.unit = unit;
+        changed();
+    }
+
+    /**
+     * @return {@code true} if this channel is currently displayed by a knob.
+     */
+    public boolean isDisplayed() {
+        return cell != null;
+    }
+
+    /**
+     * Set the range, current and target values at once.
+     *
+     * @param minValue     The channel minimum value.
+     * @param maxValue     The channel maximum value.
+     * @param currentValue The channel current value.
+     * @param targetValue  The channel target value.
+     */
+    public void setValues( final double minValue, final double maxValue, final double currentValue, final double targetValue ) {
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.currentValue = currentValue;
+        this.targetValue = targetValue;
+        changed();
+    }
+
+    /**
+     * Called on the JavaFX Application Thread by a cell no longer displaying
+     * this channel. The link is cleared only if this channel was not bound
+     * to another cell meanwhile (e.g. when moved to another visible index).
+     */
+    void clearCell( final KnobGrid.Cell cell ) {
+        if ( this.cell == cell ) {
+            this.cell = null;
+        }
+    }
+
+    /**
+     * Called on the JavaFX Application Thread by the cell displaying this
+     * channel.
+     */
+    void setCell( final KnobGrid.Cell cell ) {
+        this.cell = cell;
+    }
+
+    /**
+     * Called by the displaying cell when the user changes the target value.
+     */
+    void targetChanged( final double targetValue ) {
+        this.targetValue = targetValue;
+    }
+
+    private void changed() {
+        if ( cell != null && refreshScheduled.compareAndSet(false, true) ) {
+            PulseScheduler.schedule(refresher);
+        }
+    }
+
+    private void refresh() {
+
+        refreshScheduled.set(false);
+
+        final KnobGrid.Cell c = cell;
+
+        if ( c != null ) {
+            c.refresh();
+        }
+
+    }
+
+}
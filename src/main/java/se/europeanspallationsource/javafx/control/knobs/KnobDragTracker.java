@@ -0,0 +1,129 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import javafx.scene.transform.NonInvertibleTransformException;
+import javafx.scene.transform.Transform;
+
+
+/**
+ * Tracks a drag gesture on the ring of a {@link Knob}, committing at most one
+ * target value update per pulse, whatever the rate of the pointer events.
+ * <p>
+ * The scene-to-knob transform is captured once when the gesture begins, so
+ * that pointer positions are converted into knob coordinates without
+ * allocating intermediate objects. Drag events only record the latest
+ * position.</p>
+ * <p>
+ * All methods must be called on the JavaFX Application Thread.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class KnobDragTracker {
+
+    private final Runnable commitTask = this::commit;
+    private final Knob knob;
+    private double mxx = 1;
+    private double mxy = 0;
+    private double myx = 0;
+    private double myy = 1;
+    private boolean pending = false;
+    private double sceneX;
+    private double sceneY;
+    private double tx = 0;
+    private double ty = 0;
+
+    KnobDragTracker( final Knob knob ) {
+        this.knob = knob;
+    }
+
+    /**
+     * Start a new drag gesture, immediately rotating the knob toward the
+     * given pointer position.
+     *
+     * @param x The pointer X coordinate, in scene space.
+     * @param y The pointer Y coordinate, in scene space.
+     */
+    void begin( final double x, final double y ) {
+
+        try {
+
+            final Transform inverse = knob.getLocalToSceneTransform().createInverse();
+
+            mxx = inverse.getMxx();
+            mxy = inverse.getMxy();
+            myx = inverse.getMyx();
+            myy = inverse.getMyy();
+            tx = inverse.getTx();
+            ty = inverse.getTy();
+
+        } catch ( NonInvertibleTransformException ex ) {
+            //  The knob is collapsed to nothing: keep the previous transform.
+        }
+
+        sceneX = x;
+        sceneY = y;
+        pending = true;
+
+        commit();
+
+    }
+
+    /**
+     * Record the latest pointer position, scheduling the knob rotation on the
+     * next pulse if not already scheduled.
+     *
+     * @param x The pointer X coordinate, in scene space.
+     * @param y The pointer Y coordinate, in scene space.
+     */
+    void drag( final double x, final double y ) {
+
+        sceneX = x;
+        sceneY = y;
+
+        if ( !pending ) {
+
+            pending = true;
+
+            PulseScheduler.schedule(commitTask);
+
+        }
+
+    }
+
+    /**
+     * End the drag gesture, committing the latest pointer position if not
+     * yet done.
+     */
+    void end() {
+        commit();
+    }
+
+    private void commit() {
+        if ( pending ) {
+
+            pending = false;
+
+            knob.touchRotate(mxx * sceneX + mxy * sceneY + tx, myx * sceneX + myy * sceneY + ty);
+
+        }
+    }
+
+}
@@ -33,6 +33,7 @@ public class KnobEvent extends Event {
 
     public static final EventType<KnobEvent> ADJUSTED = new EventType<>(ANY, "adjusted");
     public static final EventType<KnobEvent> ADJUSTING = new EventType<>(ANY, "adjusting");
+    public static final EventType<KnobEvent> RAMP_STEP = new EventType<>(ANY, "rampStep");
     public static final EventType<KnobEvent> TARGET_SET = new EventType<>(ANY, "targetSet");
 
     private static final long serialVersionUID = -4112513825652025391L;
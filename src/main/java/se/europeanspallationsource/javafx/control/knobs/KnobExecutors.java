@@ -0,0 +1,162 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.text.MessageFormat;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Executors shared by all the {@link Knob} instances.
+ * <p>
+ * The initialization pool can be configured by the following system
+ * properties, to be set before the first knob is created:</p>
+ * <ul>
+ * <li><b>{@value #INIT_POOL_SIZE_PROPERTY}</b>: the maximum number of threads
+ * used to initialize knobs (default: the number of available processors,
+ * but not more than 4);</li>
+ * <li><b>{@value #INIT_VIRTUAL_THREADS_PROPERTY}</b>: {@code true} to use
+ * virtual threads, when the running JVM supports them (default:
+ * {@code false}).</li>
+ * </ul>
+ * <p>
+ * The scheduler is a single daemon thread, used to time periodic work
+ * shared by all knobs (e.g. setpoint ramping), whose actual work is then
+ * performed on the JavaFX Application Thread.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class KnobExecutors {
+
+    static final String INIT_POOL_SIZE_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.initPoolSize";
+    static final String INIT_VIRTUAL_THREADS_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.initVirtualThreads";
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    /**
+     * @return The bounded {@link Executor} used to initialize knobs.
+     */
+    static Executor initializer() {
+        return InitializerHolder.INITIALIZER;
+    }
+
+    /**
+     * @return The single-threaded {@link ScheduledExecutorService} shared by
+     *         all knobs.
+     */
+    static ScheduledExecutorService scheduler() {
+        return SchedulerHolder.SCHEDULER;
+    }
+
+    /**
+     * @param name The threads name prefix.
+     * @return A {@link ThreadFactory} creating daemon platform threads.
+     */
+    private static ThreadFactory platformThreadFactory( final String name ) {
+
+        final AtomicInteger counter = new AtomicInteger(0);
+
+        return r -> {
+
+            Thread thread = new Thread(r, MessageFormat.format("{0}-{1,number,#0}", name, counter.incrementAndGet()));
+
+            thread.setDaemon(true);
+
+            return thread;
+
+        };
+
+    }
+
+    /**
+     * The project targets Java 8, so virtual threads can only be obtained by
+     * reflection.
+     *
+     * @return A {@link ThreadFactory} creating virtual threads, or
+     *         {@code null} if not supported by the running JVM.
+     */
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "Knob-Initializer-", 1L);
+
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+        } catch ( ReflectiveOperationException | RuntimeException ex ) {
+            return null;
+        }
+    }
+
+    private KnobExecutors() {
+    }
+
+    /*
+     * Lazy holder: the pool is created (and the system properties read) only
+     * when the first knob is instantiated.
+     */
+    private static class InitializerHolder {
+
+        private static final ThreadPoolExecutor INITIALIZER;
+
+        static {
+
+            int size = Math.min(4, Runtime.getRuntime().availableProcessors());
+
+            size = Math.max(1, Integer.getInteger(INIT_POOL_SIZE_PROPERTY, size));
+
+            ThreadFactory factory = Boolean.getBoolean(INIT_VIRTUAL_THREADS_PROPERTY) ? virtualThreadFactory() : null;
+
+            if ( factory == null ) {
+                factory = platformThreadFactory("Knob-Initializer");
+            }
+
+            INITIALIZER = new ThreadPoolExecutor(size, size, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory);
+
+            INITIALIZER.allowCoreThreadTimeOut(true);
+
+        }
+
+    }
+
+    private static class SchedulerHolder {
+
+        private static final ScheduledThreadPoolExecutor SCHEDULER;
+
+        static {
+
+            SCHEDULER = new ScheduledThreadPoolExecutor(1, platformThreadFactory("Knob-Scheduler"));
+
+            SCHEDULER.setRemoveOnCancelPolicy(true);
+
+        }
+
+    }
+
+}
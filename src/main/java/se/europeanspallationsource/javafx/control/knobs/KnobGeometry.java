@@ -0,0 +1,151 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javafx.scene.text.Font;
+
+
+/**
+ * The size-derived geometry of a knob: radii, stroke widths, text
+ * positions, widths and fonts, tag polygon coordinates and effect
+ * parameters. Instances are immutable, computed by a pure function of the
+ * knob size, and can be built on any thread: knobs precompute the one for
+ * their preferred size during their background initialization.
+ * <p>
+ * Instances for integer sizes up to {@link Knob#MAXIMUM_WIDTH} are cached
+ * and shared by all knobs.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class KnobGeometry {
+
+    private static final AtomicReferenceArray<KnobGeometry> CACHE = new AtomicReferenceArray<>((int) Knob.MAXIMUM_WIDTH + 1);
+
+    /**
+     * @param size The knob size.
+     * @return The geometry for the given size, from the cache if possible.
+     */
+    static KnobGeometry of( final double size ) {
+
+        final int index = (int) size;
+
+        if ( index != size || index < 0 || index >= CACHE.length() ) {
+            return new KnobGeometry(size);
+        }
+
+        KnobGeometry geometry = CACHE.get(index);
+
+        if ( geometry == null ) {
+
+            geometry = new KnobGeometry(size);
+
+            if ( !CACHE.compareAndSet(index, null, geometry) ) {
+                geometry = CACHE.get(index);
+            }
+
+        }
+
+        return geometry;
+
+    }
+
+    final double arcDeadband;
+    final double barRadius;
+    final double barStrokeWidth;
+    final double center;
+    final Font extremaFont;
+    final double extremaFontSize;
+    final double extremaWidth;
+    final double extremaY;
+    final double glowRadius;
+    final double highlightOffsetY;
+    final double indicatorRadius;
+    final double indicatorY;
+    final double innerShadowOffsetY;
+    final double mainCircleRadius;
+    final double ringScale;
+    final double shadowRadius;
+    final double size;
+    final double tagBottom;
+    final double tagTop;
+    final Font targetTextFont;
+    final double targetTextFontSize;
+    final double targetTextWidth;
+    final double targetTextY;
+    final Font textFont;
+    final double textFontSize;
+    final double textMaxTagLeft;
+    final double textMaxX;
+    final double textMinTagRight;
+    final double textMinX;
+    final double textWidth;
+    final double textY;
+    final Font unitTextFont;
+    final double unitTextY;
+
+    private KnobGeometry( final double size ) {
+
+        this.size = size;
+        this.center = size * 0.5;
+
+        this.barRadius = size * 0.46;
+        //  The angle, in degrees, of a one pixel long arc of the value bar.
+        this.arcDeadband = ( barRadius > 0 ) ? Math.toDegrees(1 / barRadius) : 0;
+        this.barStrokeWidth = size * 0.03;
+        this.mainCircleRadius = size * 0.3;
+        this.ringScale = size / Knob.PREFERRED_WIDTH;
+
+        this.textFontSize = size * 0.216;
+        this.textFont = FontCache.robotoMedium(textFontSize);
+        this.textWidth = size * 0.48;
+        this.textY = size * 0.33;
+
+        this.targetTextFontSize = size * 0.11;
+        this.targetTextFont = FontCache.robotoLight(targetTextFontSize);
+        this.targetTextWidth = size * 0.39;
+        this.targetTextY = size * 0.25;
+
+        this.unitTextFont = FontCache.robotoLight(targetTextFontSize);
+        this.unitTextY = size * 0.6;
+
+        this.extremaFontSize = size * 0.072;
+        this.extremaFont = FontCache.robotoRegular(extremaFontSize);
+        this.extremaWidth = size * 0.256;
+        this.extremaY = size * 0.878;
+        this.textMinX = size * 0.007;
+        this.textMaxX = size * 0.737;
+
+        this.tagTop = size * 0.886;
+        this.tagBottom = size * 0.966;
+        this.textMinTagRight = size * 0.27;
+        this.textMaxTagLeft = size * 0.73;
+
+        this.indicatorRadius = size * 0.032;
+        this.indicatorY = size * 0.140;
+
+        this.glowRadius = size * 0.02;
+        this.shadowRadius = size * 0.008;
+        this.innerShadowOffsetY = size * 0.006;
+        this.highlightOffsetY = -size * 0.004;
+
+    }
+
+}
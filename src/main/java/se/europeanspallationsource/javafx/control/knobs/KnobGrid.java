@@ -0,0 +1,453 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Orientation;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.ScrollEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+
+/**
+ * A scrollable grid of knobs, one per {@link KnobChannel}, for screens with
+ * thousands of channels. Like {@link javafx.scene.control.ListView}, only
+ * the visible cells have a {@link Knob}: knobs are taken from a pool, and
+ * recycled when their cells scroll out of the viewport. Memory and layout
+ * costs then depend on the viewport size, not on the number of channels.
+ * <p>
+ * Knobs are styled applying the {@link #cellSpecProperty() cell
+ * specification}, and then bound to their channel's range, current and
+ * target values and unit.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+public class KnobGrid extends Region {
+
+    private final ObservableList<KnobChannel> channels = FXCollections.observableArrayList();
+    private final Rectangle clip = new Rectangle();
+    private int columns = 1;
+    private final Deque<Cell> freeCells = new ArrayDeque<>();
+    private final List<Cell> pool = new ArrayList<>();
+    private final Knob.RenderingMode renderingMode;
+    private final ScrollBar scrollBar = new ScrollBar();
+    private Cell[] slots = new Cell[0];
+    private final List<Cell> usedCells = new ArrayList<>();
+
+    /**
+     * Creates a grid whose knobs are rendered in
+     * {@link Knob.RenderingMode#CANVAS} mode.
+     */
+    public KnobGrid() {
+        this(Knob.RenderingMode.CANVAS);
+    }
+
+    /**
+     * @param renderingMode How the grid knobs are rendered.
+     */
+    public KnobGrid( final Knob.RenderingMode renderingMode ) {
+
+        this.renderingMode = renderingMode;
+
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        scrollBar.setMin(0);
+        scrollBar.valueProperty().addListener(o -> requestLayout());
+
+        channels.addListener((ListChangeListener<KnobChannel>) c -> requestLayout());
+
+        addEventHandler(ScrollEvent.SCROLL, e -> {
+            scrollBar.setValue(Math.max(0, Math.min(scrollBar.getMax(), scrollBar.getValue() - e.getDeltaY())));
+            e.consume();
+        });
+
+        setClip(clip);
+        getChildren().add(scrollBar);
+
+    }
+
+    /*
+     * ---- cellSize -----------------------------------------------------------
+     */
+    private final DoubleProperty cellSize = new SimpleDoubleProperty(this, "cellSize", 120) {
+        @Override
+        protected void invalidated() {
+
+            if ( get() < Knob.MINIMUM_WIDTH ) {
+                set(Knob.MINIMUM_WIDTH);
+            }
+
+            requestLayout();
+
+        }
+    };
+
+    /**
+     * @return The property holding the size of the (square) grid cells.
+     */
+    public DoubleProperty cellSizeProperty() {
+        return cellSize;
+    }
+
+    public double getCellSize() {
+        return cellSize.get();
+    }
+
+    public void setCellSize( double cellSize ) {
+        this.cellSize.set(cellSize);
+    }
+
+    /*
+     * ---- cellSpec -----------------------------------------------------------
+     */
+    private final ObjectProperty<KnobSpec> cellSpec = new SimpleObjectProperty<KnobSpec>(this, "cellSpec", null) {
+        @Override
+        protected void invalidated() {
+
+            final KnobSpec spec = get();
+
+            if ( spec != null ) {
+                for ( Cell cell : pool ) {
+                    spec.applyTo(cell.knob);
+                    cell.refresh();
+                }
+            }
+
+        }
+    };
+
+    /**
+     * @return The property holding the specification applied to all the grid
+     *         knobs, before binding them to their channel.
+     */
+    public ObjectProperty<KnobSpec> cellSpecProperty() {
+        return cellSpec;
+    }
+
+    public KnobSpec getCellSpec() {
+        return cellSpec.get();
+    }
+
+    public void setCellSpec( KnobSpec cellSpec ) {
+        this.cellSpec.set(cellSpec);
+    }
+
+    /*
+     * ---- onTargetSet --------------------------------------------------------
+     */
+    private final ObjectProperty<Consumer<KnobChannel>> onTargetSet = new SimpleObjectProperty<>(this, "onTargetSet", null);
+
+    /**
+     * @return The property holding the handler called when the user sets a
+     *         new target value on a grid knob, with the knob's channel.
+     */
+    public ObjectProperty<Consumer<KnobChannel>> onTargetSetProperty() {
+        return onTargetSet;
+    }
+
+    public Consumer<KnobChannel> getOnTargetSet() {
+        return onTargetSet.get();
+    }
+
+    public void setOnTargetSet( Consumer<KnobChannel> onTargetSet ) {
+        this.onTargetSet.set(onTargetSet);
+    }
+
+    /*
+     * ---- spacing ------------------------------------------------------------
+     */
+    private final DoubleProperty spacing = new SimpleDoubleProperty(this, "spacing", 4) {
+        @Override
+        protected void invalidated() {
+            requestLayout();
+        }
+    };
+
+    public DoubleProperty spacingProperty() {
+        return spacing;
+    }
+
+    public double getSpacing() {
+        return spacing.get();
+    }
+
+    public void setSpacing( double spacing ) {
+        this.spacing.set(spacing);
+    }
+
+    /**
+     * @return The list of channels displayed by this grid.
+     */
+    public ObservableList<KnobChannel> getChannels() {
+        return channels;
+    }
+
+    /**
+     * @return The number of {@link Knob}s created so far by this grid,
+     *         depending on the largest viewport size.
+     */
+    public int getKnobCount() {
+        return pool.size();
+    }
+
+    /**
+     * @return How the grid knobs are rendered.
+     */
+    public Knob.RenderingMode getRenderingMode() {
+        return renderingMode;
+    }
+
+    /**
+     * Scroll the grid to make the channel at the given index visible.
+     *
+     * @param index The index of the channel to be made visible.
+     */
+    public void scrollTo( final int index ) {
+
+        final double pitch = getCellSize() + getSpacing();
+        final double top = ( index / columns ) * pitch;
+        final double viewport = getHeight() - getInsets().getTop() - getInsets().getBottom();
+        final double value = scrollBar.getValue();
+
+        if ( top < value ) {
+            scrollBar.setValue(top);
+        } else if ( top + pitch > value + viewport ) {
+            scrollBar.setValue(Math.min(scrollBar.getMax(), top + pitch - viewport));
+        }
+
+    }
+
+    @Override
+    protected double computePrefHeight( double width ) {
+        return getInsets().getTop() + 3 * getCellSize() + 2 * getSpacing() + getInsets().getBottom();
+    }
+
+    @Override
+    protected double computePrefWidth( double height ) {
+        return getInsets().getLeft() + 5 * getCellSize() + 4 * getSpacing() + scrollBar.prefWidth(-1) + getInsets().getRight();
+    }
+
+    @Override
+    protected void layoutChildren() {
+
+        final Insets insets = getInsets();
+        final double left = insets.getLeft();
+        final double top = insets.getTop();
+        final double width = getWidth() - left - insets.getRight();
+        final double height = getHeight() - top - insets.getBottom();
+        final double barWidth = scrollBar.prefWidth(-1);
+        final double size = getCellSize();
+        final double pitch = size + getSpacing();
+        final int count = channels.size();
+
+        clip.setWidth(getWidth());
+        clip.setHeight(getHeight());
+
+        columns = Math.max(1, (int) ( ( width - barWidth + getSpacing() ) / pitch ));
+
+        final int rows = ( count + columns - 1 ) / columns;
+        final double contentHeight = Math.max(0, rows * pitch - getSpacing());
+        final double maxOffset = Math.max(0, contentHeight - height);
+
+        scrollBar.resizeRelocate(left + width - barWidth, top, barWidth, height);
+        scrollBar.setMax(maxOffset);
+        scrollBar.setVisibleAmount(( contentHeight > 0 ) ? maxOffset * height / contentHeight : 0);
+        scrollBar.setUnitIncrement(pitch * 0.25);
+        scrollBar.setBlockIncrement(height);
+        scrollBar.setVisible(maxOffset > 0);
+
+        if ( scrollBar.getValue() > maxOffset ) {
+            //  Will trigger a new layout pass.
+            scrollBar.setValue(maxOffset);
+        }
+
+        final double offset = Math.min(scrollBar.getValue(), maxOffset);
+        final int first = Math.min(count, (int) ( offset / pitch ) * columns);
+        final int last = Math.min(count, ( (int) ( ( offset + height ) / pitch ) + 1 ) * columns);
+
+        if ( slots.length < last - first ) {
+            slots = new Cell[last - first];
+        }
+
+        //  Recycle cells no longer visible, and index the others.
+        for ( Iterator<Cell> iterator = usedCells.iterator(); iterator.hasNext(); ) {
+
+            final Cell cell = iterator.next();
+
+            if ( cell.index < first || cell.index >= last ) {
+                cell.release();
+                freeCells.push(cell);
+                iterator.remove();
+            } else {
+                slots[cell.index - first] = cell;
+            }
+
+        }
+
+        for ( int index = first; index < last; index++ ) {
+
+            Cell cell = slots[index - first];
+
+            if ( cell == null ) {
+                cell = freeCells.isEmpty() ? newCell() : freeCells.pop();
+                usedCells.add(cell);
+            } else {
+                slots[index - first] = null;
+            }
+
+            cell.bind(index, channels.get(index));
+            cell.knob.resizeRelocate(
+                left + ( index % columns ) * pitch,
+                top + ( index / columns ) * pitch - offset,
+                size,
+                size
+            );
+
+        }
+
+    }
+
+    private Cell newCell() {
+
+        final Cell cell = new Cell();
+
+        pool.add(cell);
+        getChildren().add(cell.knob);
+
+        return cell;
+
+    }
+
+    /**
+     * A grid position, with its (recycled) knob.
+     */
+    final class Cell {
+
+        private KnobChannel channel = null;
+        private int index = -1;
+        private final Knob knob;
+        private boolean refreshing = false;
+
+        private Cell() {
+
+            knob = new Knob(renderingMode);
+
+            final KnobSpec spec = getCellSpec();
+
+            if ( spec != null ) {
+                spec.applyTo(knob);
+            }
+
+            knob.setVisible(false);
+            knob.targetValueProperty().addListener(o -> {
+                if ( !refreshing && channel != null ) {
+                    channel.targetChanged(knob.getTargetValue());
+                }
+            });
+            //  Added as a separate handler, to coexist with the one set by
+            //  the cell specification.
+            knob.addEventHandler(KnobEvent.TARGET_SET, e -> {
+
+                final Consumer<KnobChannel> handler = getOnTargetSet();
+
+                if ( handler != null && channel != null ) {
+                    handler.accept(channel);
+                }
+
+            });
+
+        }
+
+        /**
+         * Update the knob from the channel values. Must be called on the
+         * JavaFX Application Thread.
+         */
+        void refresh() {
+
+            final KnobChannel c = channel;
+
+            if ( c == null ) {
+                return;
+            }
+
+            refreshing = true;
+
+            try {
+                knob.update(u -> u.minValue(c.getMinValue())
+                                  .maxValue(c.getMaxValue())
+                                  .currentValue(c.getCurrentValue())
+                                  .targetValue(c.getTargetValue()));
+                knob.setUnit(c.getUnit());
+            } finally {
+                refreshing = false;
+            }
+
+        }
+
+        private void bind( final int index, final KnobChannel channel ) {
+
+            this.index = index;
+
+            if ( this.channel != channel ) {
+
+                unbind();
+
+                this.channel = channel;
+
+                channel.setCell(this);
+                refresh();
+                knob.setVisible(true);
+
+            }
+
+        }
+
+        private void release() {
+            unbind();
+            index = -1;
+            knob.setVisible(false);
+        }
+
+        private void unbind() {
+
+            if ( channel != null ) {
+                channel.clearCell(this);
+            }
+
+            channel = null;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,308 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.concurrent.atomic.LongAdder;
+import javafx.event.EventType;
+
+
+/**
+ * Opt-in counters of the work done by a {@link Knob}: value invalidations,
+ * events fired by type, text updates and fittings (with the number of font
+ * sizes tried), resizes and their cost.
+ * <p>
+ * Metrics are enabled per knob with {@link Knob#setMetricsEnabled(boolean)},
+ * or for all new knobs setting the <b>{@value Knob#METRICS_PROPERTY}</b>
+ * system property to {@code true}. Counters are thread-safe, and can be
+ * sampled with {@link #snapshot()}, aggregated across knobs by
+ * {@link KnobMetricsRegistry}, or read through JMX.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+public final class KnobMetrics implements KnobMetricsMXBean {
+
+    private final LongAdder adjustedEvents = new LongAdder();
+    private final LongAdder adjustingEvents = new LongAdder();
+    private final LongAdder currentValueInvalidations = new LongAdder();
+    private final LongAdder rampStepEvents = new LongAdder();
+    private final LongAdder resizeNanos = new LongAdder();
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder targetSetEvents = new LongAdder();
+    private final LongAdder targetValueInvalidations = new LongAdder();
+    private final LongAdder textFitIterations = new LongAdder();
+    private final LongAdder textFits = new LongAdder();
+    private final LongAdder textUpdates = new LongAdder();
+
+    KnobMetrics() {
+    }
+
+    @Override
+    public long getAdjustedEvents() {
+        return adjustedEvents.sum();
+    }
+
+    @Override
+    public long getAdjustingEvents() {
+        return adjustingEvents.sum();
+    }
+
+    @Override
+    public long getCurrentValueInvalidations() {
+        return currentValueInvalidations.sum();
+    }
+
+    @Override
+    public long getRampStepEvents() {
+        return rampStepEvents.sum();
+    }
+
+    /**
+     * @return The total time spent in {@link Knob#resize()}, in nanoseconds.
+     */
+    @Override
+    public long getResizeNanos() {
+        return resizeNanos.sum();
+    }
+
+    @Override
+    public long getResizes() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getTargetSetEvents() {
+        return targetSetEvents.sum();
+    }
+
+    @Override
+    public long getTargetValueInvalidations() {
+        return targetValueInvalidations.sum();
+    }
+
+    /**
+     * @return The number of font sizes tried while fitting texts. Fittings
+     *         satisfied by the shared cache take no iteration.
+     */
+    @Override
+    public long getTextFitIterations() {
+        return textFitIterations.sum();
+    }
+
+    @Override
+    public long getTextFits() {
+        return textFits.sum();
+    }
+
+    @Override
+    public long getTextUpdates() {
+        return textUpdates.sum();
+    }
+
+    @Override
+    public void reset() {
+        adjustedEvents.reset();
+        adjustingEvents.reset();
+        currentValueInvalidations.reset();
+        rampStepEvents.reset();
+        resizeNanos.reset();
+        resizes.reset();
+        targetSetEvents.reset();
+        targetValueInvalidations.reset();
+        textFitIterations.reset();
+        textFits.reset();
+        textUpdates.reset();
+    }
+
+    /**
+     * @return An immutable copy of the current counter values.
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(
+            getAdjustedEvents(),
+            getAdjustingEvents(),
+            getCurrentValueInvalidations(),
+            getRampStepEvents(),
+            getResizeNanos(),
+            getResizes(),
+            getTargetSetEvents(),
+            getTargetValueInvalidations(),
+            getTextFitIterations(),
+            getTextFits(),
+            getTextUpdates()
+        );
+    }
+
+    void currentValueInvalidated() {
+        currentValueInvalidations.increment();
+    }
+
+    void eventFired( final EventType<?> type ) {
+        if ( type == KnobEvent.ADJUSTED ) {
+            adjustedEvents.increment();
+        } else if ( type == KnobEvent.ADJUSTING ) {
+            adjustingEvents.increment();
+        } else if ( type == KnobEvent.RAMP_STEP ) {
+            rampStepEvents.increment();
+        } else if ( type == KnobEvent.TARGET_SET ) {
+            targetSetEvents.increment();
+        }
+    }
+
+    void resized( final long nanos ) {
+        resizes.increment();
+        resizeNanos.add(nanos);
+    }
+
+    void targetValueInvalidated() {
+        targetValueInvalidations.increment();
+    }
+
+    void textFitted( final int iterations ) {
+        textFits.increment();
+        textFitIterations.add(iterations);
+    }
+
+    void textUpdated() {
+        textUpdates.increment();
+    }
+
+    /**
+     * Immutable values of {@link KnobMetrics} counters, at the time it was
+     * taken.
+     */
+    @SuppressWarnings( "PublicInnerClass" )
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        private final long adjustedEvents;
+        private final long adjustingEvents;
+        private final long currentValueInvalidations;
+        private final long rampStepEvents;
+        private final long resizeNanos;
+        private final long resizes;
+        private final long targetSetEvents;
+        private final long targetValueInvalidations;
+        private final long textFitIterations;
+        private final long textFits;
+        private final long textUpdates;
+
+        @SuppressWarnings( "ParameterNumber" )
+        Snapshot( long adjustedEvents, long adjustingEvents, long currentValueInvalidations, long rampStepEvents, long resizeNanos, long resizes, long targetSetEvents, long targetValueInvalidations, long textFitIterations, long textFits, long textUpdates ) {
+
+            this.adjustedEvents = adjustedEvents;
+            this.adjustingEvents = adjustingEvents;
+            this.currentValueInvalidations = currentValueInvalidations;
+            this.rampStepEvents = rampStepEvents;
+            this.resizeNanos = resizeNanos;
+            this.resizes = resizes;
+            this.targetSetEvents = targetSetEvents;
+            this.targetValueInvalidations = targetValueInvalidations;
+            this.textFitIterations = textFitIterations;
+            this.textFits = textFits;
+            this.textUpdates = textUpdates;
+
+        }
+
+        public long getAdjustedEvents() {
+            return adjustedEvents;
+        }
+
+        public long getAdjustingEvents() {
+            return adjustingEvents;
+        }
+
+        public long getCurrentValueInvalidations() {
+            return currentValueInvalidations;
+        }
+
+        public long getRampStepEvents() {
+            return rampStepEvents;
+        }
+
+        public long getResizeNanos() {
+            return resizeNanos;
+        }
+
+        public long getResizes() {
+            return resizes;
+        }
+
+        public long getTargetSetEvents() {
+            return targetSetEvents;
+        }
+
+        public long getTargetValueInvalidations() {
+            return targetValueInvalidations;
+        }
+
+        public long getTextFitIterations() {
+            return textFitIterations;
+        }
+
+        public long getTextFits() {
+            return textFits;
+        }
+
+        public long getTextUpdates() {
+            return textUpdates;
+        }
+
+        /**
+         * @param other The snapshot to be added to this one.
+         * @return A new snapshot whose counters are the sum of this and the
+         *         given one.
+         */
+        public Snapshot plus( final Snapshot other ) {
+            return new Snapshot(
+                adjustedEvents + other.adjustedEvents,
+                adjustingEvents + other.adjustingEvents,
+                currentValueInvalidations + other.currentValueInvalidations,
+                rampStepEvents + other.rampStepEvents,
+                resizeNanos + other.resizeNanos,
+                resizes + other.resizes,
+                targetSetEvents + other.targetSetEvents,
+                targetValueInvalidations + other.targetValueInvalidations,
+                textFitIterations + other.textFitIterations,
+                textFits + other.textFits,
+                textUpdates + other.textUpdates
+            );
+        }
+
+        @Override
+        public String toString() {
+            return "KnobMetrics.Snapshot["
+                + "adjustedEvents=" + adjustedEvents
+                + ", adjustingEvents=" + adjustingEvents
+                + ", currentValueInvalidations=" + currentValueInvalidations
+                + ", rampStepEvents=" + rampStepEvents
+                + ", resizeNanos=" + resizeNanos
+                + ", resizes=" + resizes
+                + ", targetSetEvents=" + targetSetEvents
+                + ", targetValueInvalidations=" + targetValueInvalidations
+                + ", textFitIterations=" + textFitIterations
+                + ", textFits=" + textFits
+                + ", textUpdates=" + textUpdates
+                + "]";
+        }
+
+    }
+
+}
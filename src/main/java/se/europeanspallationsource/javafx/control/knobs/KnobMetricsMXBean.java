@@ -0,0 +1,57 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+/**
+ * JMX view of the {@link KnobMetrics} of a single knob, or of the aggregate
+ * ones of all the knobs with metrics enabled (see
+ * {@link KnobMetricsRegistry}).
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+public interface KnobMetricsMXBean {
+
+    long getAdjustedEvents();
+
+    long getAdjustingEvents();
+
+    long getCurrentValueInvalidations();
+
+    long getRampStepEvents();
+
+    long getResizeNanos();
+
+    long getResizes();
+
+    long getTargetSetEvents();
+
+    long getTargetValueInvalidations();
+
+    long getTextFitIterations();
+
+    long getTextFits();
+
+    long getTextUpdates();
+
+    /**
+     * Reset all counters to zero.
+     */
+    void reset();
+
+}
@@ -0,0 +1,257 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+
+/**
+ * Registry of the {@link KnobMetrics} of all the knobs having metrics
+ * enabled, providing their aggregate values, also through JMX.
+ * <p>
+ * Metrics are weakly referenced: the metrics of garbage collected knobs are
+ * no longer part of the aggregate values. This does not apply to knobs whose
+ * metrics MBean was registered with {@link #registerMBean(Knob)}: the MBean
+ * server keeps their metrics reachable, so they stay registered, and part
+ * of the aggregate values, until {@link #unregisterMBean(Knob)} or
+ * {@link Knob#setMetricsEnabled(boolean) setMetricsEnabled(false)} is
+ * called on the knob.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+public final class KnobMetricsRegistry {
+
+    /**
+     * The JMX object name of the aggregate metrics MBean. Single knob MBeans
+     * add a {@code name} key.
+     */
+    public static final String OBJECT_NAME = "se.europeanspallationsource.javafx.control.knobs:type=KnobMetrics";
+
+    private static final Set<KnobMetrics> METRICS = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final Map<Knob, ObjectName> NAMES = new WeakHashMap<>();
+
+    /**
+     * @return The number of knobs whose metrics are currently registered.
+     */
+    public static int getKnobCount() {
+        synchronized ( METRICS ) {
+            return METRICS.size();
+        }
+    }
+
+    /**
+     * Register the MBean exposing the aggregate metrics of all knobs, with
+     * the {@link #OBJECT_NAME} name in the platform MBean server. Nothing is
+     * done if already registered.
+     *
+     * @throws JMException If the MBean cannot be registered.
+     */
+    public static void registerMBean() throws JMException {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(new Aggregate(), new ObjectName(OBJECT_NAME));
+        } catch ( InstanceAlreadyExistsException ex ) {
+            //  Already registered.
+        }
+    }
+
+    /**
+     * Register the MBean exposing the metrics of the given knob, named after
+     * the knob's ID (or its identity hash code, if the ID is {@code null}).
+     * <p>
+     * The MBean is not unregistered when the knob is garbage collected:
+     * {@link #unregisterMBean(Knob)} or
+     * {@link Knob#setMetricsEnabled(boolean) setMetricsEnabled(false)} must
+     * be called when the knob is disposed.</p>
+     *
+     * @param knob The {@link Knob} whose metrics must be exposed.
+     * @throws IllegalStateException If the knob's metrics are not enabled.
+     * @throws JMException           If the MBean cannot be registered.
+     */
+    public static void registerMBean( final Knob knob ) throws JMException {
+
+        final KnobMetrics metrics = knob.getMetrics();
+
+        if ( metrics == null ) {
+            throw new IllegalStateException("Metrics not enabled.");
+        }
+
+        final String id = ( knob.getId() != null ) ? knob.getId() : Integer.toHexString(System.identityHashCode(knob));
+        final ObjectName name = new ObjectName(OBJECT_NAME + ",name=" + ObjectName.quote(id));
+
+        ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, name);
+
+        synchronized ( NAMES ) {
+            NAMES.put(knob, name);
+        }
+
+    }
+
+    /**
+     * @return The sum of the metrics of all registered knobs.
+     */
+    public static KnobMetrics.Snapshot snapshot() {
+
+        final List<KnobMetrics> metrics;
+
+        synchronized ( METRICS ) {
+            metrics = new ArrayList<>(METRICS);
+        }
+
+        KnobMetrics.Snapshot snapshot = KnobMetrics.Snapshot.EMPTY;
+
+        for ( KnobMetrics m : metrics ) {
+            snapshot = snapshot.plus(m.snapshot());
+        }
+
+        return snapshot;
+
+    }
+
+    /**
+     * Unregister the MBean of the given knob, if registered.
+     *
+     * @param knob The {@link Knob} whose metrics MBean must be removed.
+     */
+    public static void unregisterMBean( final Knob knob ) {
+
+        final ObjectName name;
+
+        synchronized ( NAMES ) {
+            name = NAMES.remove(knob);
+        }
+
+        if ( name != null ) {
+
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+            try {
+                server.unregisterMBean(name);
+            } catch ( InstanceNotFoundException ex ) {
+                //  Already unregistered.
+            } catch ( JMException ex ) {
+                throw new IllegalStateException(ex);
+            }
+
+        }
+
+    }
+
+    static void register( final KnobMetrics metrics ) {
+        synchronized ( METRICS ) {
+            METRICS.add(metrics);
+        }
+    }
+
+    static void unregister( final KnobMetrics metrics ) {
+        synchronized ( METRICS ) {
+            METRICS.remove(metrics);
+        }
+    }
+
+    private KnobMetricsRegistry() {
+    }
+
+    /**
+     * The aggregate metrics MBean.
+     */
+    private static final class Aggregate implements KnobMetricsMXBean {
+
+        @Override
+        public long getAdjustedEvents() {
+            return snapshot().getAdjustedEvents();
+        }
+
+        @Override
+        public long getAdjustingEvents() {
+            return snapshot().getAdjustingEvents();
+        }
+
+        @Override
+        public long getCurrentValueInvalidations() {
+            return snapshot().getCurrentValueInvalidations();
+        }
+
+        @Override
+        public long getRampStepEvents() {
+            return snapshot().getRampStepEvents();
+        }
+
+        @Override
+        public long getResizeNanos() {
+            return snapshot().getResizeNanos();
+        }
+
+        @Override
+        public long getResizes() {
+            return snapshot().getResizes();
+        }
+
+        @Override
+        public long getTargetSetEvents() {
+            return snapshot().getTargetSetEvents();
+        }
+
+        @Override
+        public long getTargetValueInvalidations() {
+            return snapshot().getTargetValueInvalidations();
+        }
+
+        @Override
+        public long getTextFitIterations() {
+            return snapshot().getTextFitIterations();
+        }
+
+        @Override
+        public long getTextFits() {
+            return snapshot().getTextFits();
+        }
+
+        @Override
+        public long getTextUpdates() {
+            return snapshot().getTextUpdates();
+        }
+
+        @Override
+        public void reset() {
+
+            final List<KnobMetrics> metrics;
+
+            synchronized ( METRICS ) {
+                metrics = new ArrayList<>(METRICS);
+            }
+
+            metrics.forEach(KnobMetrics::reset);
+
+        }
+
+    }
+
+}
@@ -0,0 +1,308 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.concurrent.TimeUnit;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.InnerShadow;
+
+
+/**
+ * The quality of the effects (shadows, highlight and glow) live rendered by
+ * all knobs, that is the ones of the indicator. The effects of the knob
+ * background are pre-rendered once into a shared image (see
+ * {@link KnobBackgroundCache}), and are not affected.
+ * <p>
+ * The quality can be capped globally with {@link #setMaximumLevel(Level)}
+ * or the <b>{@value #QUALITY_PROPERTY}</b> system property (e.g.
+ * {@code -Dse.europeanspallationsource.javafx.control.knobs.quality=LOW} on
+ * thin clients).</p>
+ * <p>
+ * In adaptive mode (see {@link #setAdaptive(boolean)} and the
+ * <b>{@value #ADAPTIVE_PROPERTY}</b> system property) the time between
+ * pulses is measured: when its average exceeds the frame budget (the
+ * <b>{@value #FRAME_BUDGET_PROPERTY}</b> system property, in milliseconds,
+ * default 25) the quality is lowered by one level, at most every half
+ * second, down to {@link Level#NONE}. After 3 seconds well within the budget
+ * it is raised again by one level, up to the maximum one. Note that, while
+ * adaptive mode is enabled, pulses are requested continuously.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+public final class KnobQuality {
+
+    /**
+     * The name of the system property that, when {@code true}, enables the
+     * adaptive mode at startup.
+     */
+    public static final String ADAPTIVE_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.adaptiveQuality";
+
+    /**
+     * The name of the system property setting the frame budget, in
+     * milliseconds, of the adaptive mode.
+     */
+    public static final String FRAME_BUDGET_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.frameBudget";
+
+    /**
+     * The name of the system property setting the initial maximum quality
+     * {@link Level} (default {@code HIGH}).
+     */
+    public static final String QUALITY_PROPERTY = "se.europeanspallationsource.javafx.control.knobs.quality";
+
+    private static final long DOWNGRADE_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final long FRAME_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(Long.getLong(FRAME_BUDGET_PROPERTY, 25L));
+    private static final double IDLE_RATIO = 0.8;
+    private static final ReadOnlyObjectWrapper<Level> LEVEL = new ReadOnlyObjectWrapper<>(KnobQuality.class, "level", initialLevel());
+    private static final Monitor MONITOR = new Monitor();
+    private static final long RESTORE_NANOS = TimeUnit.SECONDS.toNanos(3);
+    private static final double SMOOTHING = 0.1;
+
+    private static volatile boolean adaptive = false;
+    private static volatile Level maximumLevel = LEVEL.get();
+
+    static {
+        if ( Boolean.getBoolean(ADAPTIVE_PROPERTY) ) {
+            setAdaptive(true);
+        }
+    }
+
+    /**
+     * @return The current effects quality level.
+     */
+    public static Level getLevel() {
+        return LEVEL.get();
+    }
+
+    /**
+     * @return The maximum effects quality level.
+     */
+    public static Level getMaximumLevel() {
+        return maximumLevel;
+    }
+
+    /**
+     * @return {@code true} if the quality level is adapted to the frame time.
+     */
+    public static boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * @return The property holding the current effects quality level. It is
+     *         changed only on the JavaFX Application Thread.
+     */
+    public static ReadOnlyObjectProperty<Level> levelProperty() {
+        return LEVEL.getReadOnlyProperty();
+    }
+
+    /**
+     * Enable or disable the adaptive mode. When disabled, the quality level
+     * is reset to the maximum one. This method can be called from any
+     * thread.
+     *
+     * @param adaptive {@code true} to adapt the quality level to the frame
+     *                 time.
+     */
+    public static void setAdaptive( final boolean adaptive ) {
+
+        KnobQuality.adaptive = adaptive;
+
+        runOnFx(() -> {
+            if ( KnobQuality.adaptive ) {
+                MONITOR.start();
+            } else {
+                MONITOR.stop();
+                LEVEL.set(maximumLevel);
+            }
+        });
+
+    }
+
+    /**
+     * Set the maximum effects quality level. Unless in adaptive mode, it
+     * becomes the current level too. This method can be called from any
+     * thread.
+     *
+     * @param level The maximum quality level. A {@code null} value is
+     *              considered as {@link Level#HIGH}.
+     */
+    public static void setMaximumLevel( final Level level ) {
+
+        maximumLevel = ( level == null ) ? Level.HIGH : level;
+
+        runOnFx(() -> {
+            if ( !adaptive || LEVEL.get().compareTo(maximumLevel) < 0 ) {
+                LEVEL.set(maximumLevel);
+            }
+        });
+
+    }
+
+    /**
+     * Add a listener to the level property. The listener is weakly
+     * referenced, so that the global property does not keep knobs alive:
+     * callers must hold a strong reference to it. This method can be called
+     * from any thread.
+     *
+     * @param listener The listener to be added.
+     */
+    static void addListener( final InvalidationListener listener ) {
+        runOnFx(() -> LEVEL.addListener(new WeakInvalidationListener(listener)));
+    }
+
+    /**
+     * Configure the given indicator effects for the given knob geometry and
+     * the current quality level. Effects presence is not changed: with
+     * {@link Level#NONE} callers must not use them.
+     *
+     * @param geometry    The knob geometry.
+     * @param glow        The selection glow.
+     * @param highlight   The indicator highlight.
+     * @param innerShadow The indicator inner shadow.
+     */
+    static void configureIndicatorEffects( final KnobGeometry geometry, final DropShadow glow, final InnerShadow highlight, final InnerShadow innerShadow ) {
+
+        final Level level = getLevel();
+        final BlurType blurType = ( level == Level.HIGH ) ? BlurType.TWO_PASS_BOX : BlurType.ONE_PASS_BOX;
+        final double blur = ( level.compareTo(Level.LOW) >= 0 ) ? 0 : 1;
+
+        glow.setBlurType(blurType);
+        glow.setRadius(geometry.glowRadius * blur);
+        innerShadow.setBlurType(blurType);
+        innerShadow.setRadius(geometry.shadowRadius * blur);
+        innerShadow.setOffsetY(geometry.innerShadowOffsetY);
+        highlight.setBlurType(blurType);
+        highlight.setRadius(geometry.shadowRadius * blur);
+        highlight.setOffsetY(geometry.highlightOffsetY);
+
+    }
+
+    private static Level initialLevel() {
+        try {
+            return Level.valueOf(System.getProperty(QUALITY_PROPERTY, Level.HIGH.name()));
+        } catch ( IllegalArgumentException ex ) {
+            return Level.HIGH;
+        }
+    }
+
+    private static void runOnFx( final Runnable runnable ) {
+        if ( Platform.isFxApplicationThread() ) {
+            runnable.run();
+        } else {
+            Platform.runLater(runnable);
+        }
+    }
+
+    private KnobQuality() {
+    }
+
+    /**
+     * Quality levels of the knob effects, from the best to the cheapest.
+     */
+    public enum Level {
+
+        /**
+         * Effects are blurred with {@link BlurType#TWO_PASS_BOX}.
+         */
+        HIGH,
+
+        /**
+         * Effects are blurred with {@link BlurType#ONE_PASS_BOX}.
+         */
+        MEDIUM,
+
+        /**
+         * Effects are not blurred.
+         */
+        LOW,
+
+        /**
+         * Effects are not rendered.
+         */
+        NONE
+
+    }
+
+    /**
+     * Measures the average time between pulses, adapting the quality level.
+     */
+    private static final class Monitor extends AnimationTimer {
+
+        private double average = 0;
+        private long calmSince = 0;
+        private long changed = 0;
+        private long last = 0;
+
+        @Override
+        public void handle( long now ) {
+
+            if ( last == 0 ) {
+                calmSince = now;
+                changed = now;
+            } else {
+
+                final long interval = now - last;
+
+                average = ( average == 0 ) ? interval : average + ( interval - average ) * SMOOTHING;
+
+            }
+
+            last = now;
+
+            final Level level = LEVEL.get();
+
+            if ( average > FRAME_BUDGET_NANOS ) {
+
+                calmSince = now;
+
+                if ( level != Level.NONE && now - changed >= DOWNGRADE_NANOS ) {
+                    LEVEL.set(Level.values()[level.ordinal() + 1]);
+                    changed = now;
+                }
+
+            } else if ( average > FRAME_BUDGET_NANOS * IDLE_RATIO ) {
+                calmSince = now;
+            } else if ( level.compareTo(maximumLevel) > 0 && now - calmSince >= RESTORE_NANOS && now - changed >= RESTORE_NANOS ) {
+                LEVEL.set(Level.values()[level.ordinal() - 1]);
+                changed = now;
+            }
+
+        }
+
+        @Override
+        public void stop() {
+
+            super.stop();
+
+            average = 0;
+            last = 0;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.application.Platform;
+
+
+/**
+ * Ramps the effective setpoint of all knobs having a positive
+ * {@link Knob#rampRateProperty()} toward their target value.
+ * <p>
+ * A single periodic task on the {@link KnobExecutors#scheduler()} times the
+ * ramp steps of all the knobs, that are then advanced together, and their
+ * {@link KnobEvent#RAMP_STEP} events fired, in one batch on the JavaFX
+ * Application Thread. Batches are not queued up when such thread is busy.
+ * The periodic task runs only while some knob is ramping.</p>
+ * <p>
+ * The ramp step interval can be set, in milliseconds, with the
+ * <b>{@value Knob#RAMP_INTERVAL_PROPERTY}</b> system property (default:
+ * 100 ms, minimum 10 ms).</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class KnobRamper {
+
+    private static final long INTERVAL = Math.max(10L, Long.getLong(Knob.RAMP_INTERVAL_PROPERTY, 100L));
+    private static final KnobStepList KNOBS = new KnobStepList(Knob::rampStep, Knob::stopRamp);
+
+    /**
+     * The longest time step, in seconds, used to advance the setpoints, so
+     * that a stalled application does not make them jump by more than two
+     * regular steps.
+     */
+    private static final double MAX_STEP = 2E-3 * INTERVAL;
+    private static final AtomicBoolean PENDING = new AtomicBoolean(false);
+
+    private static ScheduledFuture<?> future = null;
+    private static long lastStep;
+
+    /**
+     * Add the given {@code knob} to the ramping ones. This method can be
+     * called from any thread.
+     *
+     * @param knob The {@link Knob} whose effective setpoint must be ramped.
+     */
+    static void ramp( final Knob knob ) {
+        if ( Platform.isFxApplicationThread() ) {
+            add(knob);
+        } else {
+            Platform.runLater(() -> add(knob));
+        }
+    }
+
+    private static void add( final Knob knob ) {
+
+        if ( KNOBS.add(knob) && future == null ) {
+            lastStep = System.nanoTime();
+            future = KnobExecutors.scheduler().scheduleAtFixedRate(KnobRamper::tick, INTERVAL, INTERVAL, TimeUnit.MILLISECONDS);
+        }
+
+    }
+
+    private static void step() {
+
+        PENDING.set(false);
+
+        final long now = System.nanoTime();
+        final double dt = Math.max(0, Math.min(MAX_STEP, ( now - lastStep ) * 1E-9));
+
+        lastStep = now;
+
+        KNOBS.step(dt);
+
+        if ( KNOBS.isEmpty() && future != null ) {
+            future.cancel(false);
+            future = null;
+        }
+
+    }
+
+    /**
+     * Called on the scheduler thread: a new batch is posted only if the
+     * previous one was already executed.
+     */
+    private static void tick() {
+        if ( PENDING.compareAndSet(false, true) ) {
+            PulseScheduler.schedule(KnobRamper::step);
+        }
+    }
+
+    private KnobRamper() {
+    }
+
+}
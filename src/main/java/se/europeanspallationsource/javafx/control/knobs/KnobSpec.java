@@ -0,0 +1,1165 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javafx.collections.FXCollections;
+import javafx.event.EventHandler;
+import javafx.geometry.Insets;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Stop;
+
+
+/**
+ * An immutable specification of the properties of a {@link Knob}. Once built,
+ * a specification can be used to create many knobs (see {@link #newKnob()}),
+ * or applied to existing ones (see {@link #applyTo(Knob)}).
+ * <p>
+ * Unlike {@link KnobBuilder}, properties are stored in typed fields, without
+ * boxing, and which of them are set is recorded in a bit mask, so that they
+ * are applied in a single ordered pass.</p>
+ * <pre>
+ * KnobSpec spec = KnobSpec.builder()
+ *     .minValue(-10)
+ *     .maxValue(10)
+ *     .unit("mA")
+ *     .build();
+ *
+ * for ( ... ) {
+ *     container.getChildren().add(spec.newKnob());
+ * }</pre>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+public final class KnobSpec {
+
+    private static final long BACKGROUND_COLOR            = 1L << 0;
+    private static final long COLOR                       = 1L << 1;
+    private static final long CURRENT_VALUE               = 1L << 2;
+    private static final long CURRENT_VALUE_COLOR         = 1L << 3;
+    private static final long DECIMALS                    = 1L << 4;
+    private static final long DRAG_DISABLED               = 1L << 5;
+    private static final long DRAG_STEP                   = 1L << 6;
+    private static final long EVENT_POLICY                = 1L << 7;
+    private static final long EXTREMA_VISIBLE             = 1L << 8;
+    private static final long GRADIENT_STOPS              = 1L << 9;
+    private static final long ID                          = 1L << 10;
+    private static final long INDICATOR_COLOR             = 1L << 11;
+    private static final long LAYOUT_X                    = 1L << 12;
+    private static final long LAYOUT_Y                    = 1L << 13;
+    private static final long MAX_EVENT_RATE              = 1L << 14;
+    private static final long MAX_HEIGHT                  = 1L << 15;
+    private static final long MAX_SIZE                    = 1L << 16;
+    private static final long MAX_VALUE                   = 1L << 17;
+    private static final long MAX_WIDTH                   = 1L << 18;
+    private static final long MIN_HEIGHT                  = 1L << 19;
+    private static final long MIN_SIZE                    = 1L << 20;
+    private static final long MIN_VALUE                   = 1L << 21;
+    private static final long MIN_WIDTH                   = 1L << 22;
+    private static final long MOTION_PROFILE              = 1L << 23;
+    private static final long ON_ADJUSTED                 = 1L << 24;
+    private static final long ON_ADJUSTING                = 1L << 25;
+    private static final long ON_RAMP_STEP                = 1L << 26;
+    private static final long ON_TARGET_SET               = 1L << 27;
+    private static final long OPACITY                     = 1L << 28;
+    private static final long PADDING                     = 1L << 29;
+    private static final long PREF_HEIGHT                 = 1L << 30;
+    private static final long PREF_SIZE                   = 1L << 31;
+    private static final long PREF_WIDTH                  = 1L << 32;
+    private static final long RAMP_RATE                   = 1L << 33;
+    private static final long RENDERING_MODE              = 1L << 34;
+    private static final long SCALE_X                     = 1L << 35;
+    private static final long SCALE_Y                     = 1L << 36;
+    private static final long SELECTED                    = 1L << 37;
+    private static final long SELECTION_COLOR             = 1L << 38;
+    private static final long TAG_COLOR                   = 1L << 39;
+    private static final long TAG_VISIBLE                 = 1L << 40;
+    private static final long TARGET_VALUE                = 1L << 41;
+    private static final long TARGET_VALUE_ALWAYS_VISIBLE = 1L << 42;
+    private static final long TEXT_COLOR                  = 1L << 43;
+    private static final long TRANSLATE_X                 = 1L << 44;
+    private static final long TRANSLATE_Y                 = 1L << 45;
+    private static final long UNIT                        = 1L << 46;
+    private static final long ZERO_DETENT_ENABLED         = 1L << 47;
+
+    /**
+     * @return A new, empty specification builder.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private final Color backgroundColor;
+    private final Color color;
+    private final double currentValue;
+    private final Color currentValueColor;
+    private final int decimals;
+    private final boolean dragDisabled;
+    private final double dragStep;
+    private final Knob.EventPolicy eventPolicy;
+    private final boolean extremaVisible;
+    private final List<Stop> gradientStops;
+    private final String id;
+    private final Color indicatorColor;
+    private final double layoutX;
+    private final double layoutY;
+    private final double maxEventRate;
+    private final double maxHeight;
+    private final double maxSizeHeight;
+    private final double maxSizeWidth;
+    private final double maxValue;
+    private final double maxWidth;
+    private final double minHeight;
+    private final double minSizeHeight;
+    private final double minSizeWidth;
+    private final double minValue;
+    private final double minWidth;
+    private final MotionProfile motionProfile;
+    private final EventHandler<KnobEvent> onAdjusted;
+    private final EventHandler<KnobEvent> onAdjusting;
+    private final EventHandler<KnobEvent> onRampStep;
+    private final EventHandler<KnobEvent> onTargetSet;
+    private final double opacity;
+    private final Insets padding;
+    private final double prefHeight;
+    private final double prefSizeHeight;
+    private final double prefSizeWidth;
+    private final double prefWidth;
+    private final double rampRate;
+    private final Knob.RenderingMode renderingMode;
+    private final double scaleX;
+    private final double scaleY;
+    private final boolean selected;
+    private final Color selectionColor;
+    private final long set;
+    private final Color tagColor;
+    private final boolean tagVisible;
+    private final double targetValue;
+    private final boolean targetValueAlwaysVisible;
+    private final Color textColor;
+    private final double translateX;
+    private final double translateY;
+    private final String unit;
+    private final boolean zeroDetentEnabled;
+
+    private KnobSpec( final Builder builder ) {
+
+        this.backgroundColor = builder.backgroundColor;
+        this.color = builder.color;
+        this.currentValue = builder.currentValue;
+        this.currentValueColor = builder.currentValueColor;
+        this.decimals = builder.decimals;
+        this.dragDisabled = builder.dragDisabled;
+        this.dragStep = builder.dragStep;
+        this.eventPolicy = builder.eventPolicy;
+        this.extremaVisible = builder.extremaVisible;
+        this.gradientStops = builder.gradientStops;
+        this.id = builder.id;
+        this.indicatorColor = builder.indicatorColor;
+        this.layoutX = builder.layoutX;
+        this.layoutY = builder.layoutY;
+        this.maxEventRate = builder.maxEventRate;
+        this.maxHeight = builder.maxHeight;
+        this.maxSizeHeight = builder.maxSizeHeight;
+        this.maxSizeWidth = builder.maxSizeWidth;
+        this.maxValue = builder.maxValue;
+        this.maxWidth = builder.maxWidth;
+        this.minHeight = builder.minHeight;
+        this.minSizeHeight = builder.minSizeHeight;
+        this.minSizeWidth = builder.minSizeWidth;
+        this.minValue = builder.minValue;
+        this.minWidth = builder.minWidth;
+        this.motionProfile = builder.motionProfile;
+        this.onAdjusted = builder.onAdjusted;
+        this.onAdjusting = builder.onAdjusting;
+        this.onRampStep = builder.onRampStep;
+        this.onTargetSet = builder.onTargetSet;
+        this.opacity = builder.opacity;
+        this.padding = builder.padding;
+        this.prefHeight = builder.prefHeight;
+        this.prefSizeHeight = builder.prefSizeHeight;
+        this.prefSizeWidth = builder.prefSizeWidth;
+        this.prefWidth = builder.prefWidth;
+        this.rampRate = builder.rampRate;
+        this.renderingMode = builder.renderingMode;
+        this.scaleX = builder.scaleX;
+        this.scaleY = builder.scaleY;
+        this.selected = builder.selected;
+        this.selectionColor = builder.selectionColor;
+        this.set = builder.set;
+        this.tagColor = builder.tagColor;
+        this.tagVisible = builder.tagVisible;
+        this.targetValue = builder.targetValue;
+        this.targetValueAlwaysVisible = builder.targetValueAlwaysVisible;
+        this.textColor = builder.textColor;
+        this.translateX = builder.translateX;
+        this.translateY = builder.translateY;
+        this.unit = builder.unit;
+        this.zeroDetentEnabled = builder.zeroDetentEnabled;
+
+    }
+
+    /**
+     * Apply all the properties set in this specification to the given
+     * {@link Knob}, with the exception of the rendering mode. Range and
+     * current value are applied first, in a single
+     * {@link Knob#update(java.util.function.Consumer)} transaction, avoiding
+     * clamping against the knob's current range.
+     *
+     * @param knob The {@link Knob} to be configured.
+     * @return The given {@link Knob}.
+     */
+    public Knob applyTo( final Knob knob ) {
+
+        //  Inter-dependent properties.
+        if ( isSet(MIN_VALUE | MAX_VALUE | CURRENT_VALUE) ) {
+            knob.update(u -> {
+                if ( isSet(MIN_VALUE) ) {
+                    u.minValue(minValue);
+                }
+                if ( isSet(MAX_VALUE) ) {
+                    u.maxValue(maxValue);
+                }
+                if ( isSet(CURRENT_VALUE) ) {
+                    u.currentValue(currentValue);
+                }
+            });
+        }
+
+        //  All other properties.
+        if ( isSet(BACKGROUND_COLOR) ) {
+            knob.setBackgroundColor(backgroundColor);
+        }
+        if ( isSet(COLOR) ) {
+            knob.setColor(color);
+        }
+        if ( isSet(CURRENT_VALUE_COLOR) ) {
+            knob.setCurrentValueColor(currentValueColor);
+        }
+        if ( isSet(DECIMALS) ) {
+            knob.setDecimals(decimals);
+        }
+        if ( isSet(DRAG_DISABLED) ) {
+            knob.setDragDisabled(dragDisabled);
+        }
+        if ( isSet(DRAG_STEP) ) {
+            knob.setDragStep(dragStep);
+        }
+        if ( isSet(EVENT_POLICY) ) {
+            knob.setEventPolicy(eventPolicy);
+        }
+        if ( isSet(EXTREMA_VISIBLE) ) {
+            knob.setExtremaVisible(extremaVisible);
+        }
+        if ( isSet(GRADIENT_STOPS) ) {
+            //  Each knob gets its own modifiable copy.
+            knob.setGradientStops(( gradientStops == null ) ? null : FXCollections.observableArrayList(gradientStops));
+        }
+        if ( isSet(ID) ) {
+            knob.setId(id);
+        }
+        if ( isSet(INDICATOR_COLOR) ) {
+            knob.setIndicatorColor(indicatorColor);
+        }
+        if ( isSet(LAYOUT_X) ) {
+            knob.setLayoutX(layoutX);
+        }
+        if ( isSet(LAYOUT_Y) ) {
+            knob.setLayoutY(layoutY);
+        }
+        if ( isSet(MAX_EVENT_RATE) ) {
+            knob.setMaxEventRate(maxEventRate);
+        }
+        if ( isSet(MAX_HEIGHT) ) {
+            knob.setMaxHeight(maxHeight);
+        }
+        if ( isSet(MAX_SIZE) ) {
+            knob.setMaxSize(maxSizeWidth, maxSizeHeight);
+        }
+        if ( isSet(MAX_WIDTH) ) {
+            knob.setMaxWidth(maxWidth);
+        }
+        if ( isSet(MIN_HEIGHT) ) {
+            knob.setMinHeight(minHeight);
+        }
+        if ( isSet(MIN_SIZE) ) {
+            knob.setMinSize(minSizeWidth, minSizeHeight);
+        }
+        if ( isSet(MIN_WIDTH) ) {
+            knob.setMinWidth(minWidth);
+        }
+        if ( isSet(MOTION_PROFILE) ) {
+            knob.setMotionProfile(motionProfile);
+        }
+        if ( isSet(ON_ADJUSTED) ) {
+            knob.setOnAdjusted(onAdjusted);
+        }
+        if ( isSet(ON_ADJUSTING) ) {
+            knob.setOnAdjusting(onAdjusting);
+        }
+        if ( isSet(ON_RAMP_STEP) ) {
+            knob.setOnRampStep(onRampStep);
+        }
+        if ( isSet(ON_TARGET_SET) ) {
+            knob.setOnTargetSet(onTargetSet);
+        }
+        if ( isSet(OPACITY) ) {
+            knob.setOpacity(opacity);
+        }
+        if ( isSet(PADDING) ) {
+            knob.setPadding(padding);
+        }
+        if ( isSet(PREF_HEIGHT) ) {
+            knob.setPrefHeight(prefHeight);
+        }
+        if ( isSet(PREF_SIZE) ) {
+            knob.setPrefSize(prefSizeWidth, prefSizeHeight);
+        }
+        if ( isSet(PREF_WIDTH) ) {
+            knob.setPrefWidth(prefWidth);
+        }
+        if ( isSet(SCALE_X) ) {
+            knob.setScaleX(scaleX);
+        }
+        if ( isSet(SCALE_Y) ) {
+            knob.setScaleY(scaleY);
+        }
+        if ( isSet(SELECTED) ) {
+            knob.setSelected(selected);
+        }
+        if ( isSet(SELECTION_COLOR) ) {
+            knob.setSelectionColor(selectionColor);
+        }
+        if ( isSet(TAG_COLOR) ) {
+            knob.setTagColor(tagColor);
+        }
+        if ( isSet(TAG_VISIBLE) ) {
+            knob.setTagVisible(tagVisible);
+        }
+        if ( isSet(TARGET_VALUE_ALWAYS_VISIBLE) ) {
+            knob.setTargetValueAlwaysVisible(targetValueAlwaysVisible);
+        }
+        if ( isSet(TARGET_VALUE) ) {
+            knob.setTargetValue(targetValue);
+        }
+        //  After the target value, so that the initial one is not ramped.
+        if ( isSet(RAMP_RATE) ) {
+            knob.setRampRate(rampRate);
+        }
+        if ( isSet(TEXT_COLOR) ) {
+            knob.setTextColor(textColor);
+        }
+        if ( isSet(TRANSLATE_X) ) {
+            knob.setTranslateX(translateX);
+        }
+        if ( isSet(TRANSLATE_Y) ) {
+            knob.setTranslateY(translateY);
+        }
+        if ( isSet(UNIT) ) {
+            knob.setUnit(unit);
+        }
+        if ( isSet(ZERO_DETENT_ENABLED) ) {
+            knob.setZeroDetentEnabled(zeroDetentEnabled);
+        }
+
+        return knob;
+
+    }
+
+    public Color getBackgroundColor() {
+        return backgroundColor;
+    }
+
+    public Color getColor() {
+        return color;
+    }
+
+    public double getCurrentValue() {
+        return currentValue;
+    }
+
+    public Color getCurrentValueColor() {
+        return currentValueColor;
+    }
+
+    public int getDecimals() {
+        return decimals;
+    }
+
+    public boolean isDragDisabled() {
+        return dragDisabled;
+    }
+
+    public double getDragStep() {
+        return dragStep;
+    }
+
+    public Knob.EventPolicy getEventPolicy() {
+        return eventPolicy;
+    }
+
+    public boolean isExtremaVisible() {
+        return extremaVisible;
+    }
+
+    public List<Stop> getGradientStops() {
+        return gradientStops;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Color getIndicatorColor() {
+        return indicatorColor;
+    }
+
+    public double getLayoutX() {
+        return layoutX;
+    }
+
+    public double getLayoutY() {
+        return layoutY;
+    }
+
+    public double getMaxEventRate() {
+        return maxEventRate;
+    }
+
+    public double getMaxHeight() {
+        return maxHeight;
+    }
+
+    public double getMaxValue() {
+        return maxValue;
+    }
+
+    public double getMaxWidth() {
+        return maxWidth;
+    }
+
+    public double getMinHeight() {
+        return minHeight;
+    }
+
+    public double getMinValue() {
+        return minValue;
+    }
+
+    public double getMinWidth() {
+        return minWidth;
+    }
+
+    public MotionProfile getMotionProfile() {
+        return motionProfile;
+    }
+
+    public EventHandler<KnobEvent> getOnAdjusted() {
+        return onAdjusted;
+    }
+
+    public EventHandler<KnobEvent> getOnAdjusting() {
+        return onAdjusting;
+    }
+
+    public EventHandler<KnobEvent> getOnRampStep() {
+        return onRampStep;
+    }
+
+    public EventHandler<KnobEvent> getOnTargetSet() {
+        return onTargetSet;
+    }
+
+    public double getOpacity() {
+        return opacity;
+    }
+
+    public Insets getPadding() {
+        return padding;
+    }
+
+    public double getPrefHeight() {
+        return prefHeight;
+    }
+
+    public double getPrefWidth() {
+        return prefWidth;
+    }
+
+    public double getRampRate() {
+        return rampRate;
+    }
+
+    public Knob.RenderingMode getRenderingMode() {
+        return renderingMode;
+    }
+
+    public double getScaleX() {
+        return scaleX;
+    }
+
+    public double getScaleY() {
+        return scaleY;
+    }
+
+    public boolean isSelected() {
+        return selected;
+    }
+
+    public Color getSelectionColor() {
+        return selectionColor;
+    }
+
+    public Color getTagColor() {
+        return tagColor;
+    }
+
+    public boolean isTagVisible() {
+        return tagVisible;
+    }
+
+    public double getTargetValue() {
+        return targetValue;
+    }
+
+    public boolean isTargetValueAlwaysVisible() {
+        return targetValueAlwaysVisible;
+    }
+
+    public Color getTextColor() {
+        return textColor;
+    }
+
+    public double getTranslateX() {
+        return translateX;
+    }
+
+    public double getTranslateY() {
+        return translateY;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public boolean isZeroDetentEnabled() {
+        return zeroDetentEnabled;
+    }
+
+    /**
+     * @return A new {@link Knob}, with the rendering mode and all the other
+     *         properties set in this specification.
+     */
+    public Knob newKnob() {
+        return applyTo(new Knob(renderingMode));
+    }
+
+    /**
+     * @return A new builder initialized with the properties of this
+     *         specification.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    private boolean isSet( final long property ) {
+        return ( set & property ) != 0;
+    }
+
+    /**
+     * Mutable builder of {@link KnobSpec} instances.
+     */
+    @SuppressWarnings( "PublicInnerClass" )
+    public static final class Builder {
+
+        private Color backgroundColor;
+        private Color color;
+        private double currentValue;
+        private Color currentValueColor;
+        private int decimals;
+        private boolean dragDisabled;
+        private double dragStep;
+        private Knob.EventPolicy eventPolicy;
+        private boolean extremaVisible;
+        private List<Stop> gradientStops;
+        private String id;
+        private Color indicatorColor;
+        private double layoutX;
+        private double layoutY;
+        private double maxEventRate;
+        private double maxHeight;
+        private double maxSizeHeight;
+        private double maxSizeWidth;
+        private double maxValue;
+        private double maxWidth;
+        private double minHeight;
+        private double minSizeHeight;
+        private double minSizeWidth;
+        private double minValue;
+        private double minWidth;
+        private MotionProfile motionProfile;
+        private EventHandler<KnobEvent> onAdjusted;
+        private EventHandler<KnobEvent> onAdjusting;
+        private EventHandler<KnobEvent> onRampStep;
+        private EventHandler<KnobEvent> onTargetSet;
+        private double opacity;
+        private Insets padding;
+        private double prefHeight;
+        private double prefSizeHeight;
+        private double prefSizeWidth;
+        private double prefWidth;
+        private double rampRate;
+        private Knob.RenderingMode renderingMode;
+        private double scaleX;
+        private double scaleY;
+        private boolean selected;
+        private Color selectionColor;
+        private long set;
+        private Color tagColor;
+        private boolean tagVisible;
+        private double targetValue;
+        private boolean targetValueAlwaysVisible;
+        private Color textColor;
+        private double translateX;
+        private double translateY;
+        private String unit;
+        private boolean zeroDetentEnabled;
+
+        private Builder() {
+        }
+
+        private Builder( final KnobSpec spec ) {
+
+            this.backgroundColor = spec.backgroundColor;
+            this.color = spec.color;
+            this.currentValue = spec.currentValue;
+            this.currentValueColor = spec.currentValueColor;
+            this.decimals = spec.decimals;
+            this.dragDisabled = spec.dragDisabled;
+            this.dragStep = spec.dragStep;
+            this.eventPolicy = spec.eventPolicy;
+            this.extremaVisible = spec.extremaVisible;
+            this.gradientStops = spec.gradientStops;
+            this.id = spec.id;
+            this.indicatorColor = spec.indicatorColor;
+            this.layoutX = spec.layoutX;
+            this.layoutY = spec.layoutY;
+            this.maxEventRate = spec.maxEventRate;
+            this.maxHeight = spec.maxHeight;
+            this.maxSizeHeight = spec.maxSizeHeight;
+            this.maxSizeWidth = spec.maxSizeWidth;
+            this.maxValue = spec.maxValue;
+            this.maxWidth = spec.maxWidth;
+            this.minHeight = spec.minHeight;
+            this.minSizeHeight = spec.minSizeHeight;
+            this.minSizeWidth = spec.minSizeWidth;
+            this.minValue = spec.minValue;
+            this.minWidth = spec.minWidth;
+            this.motionProfile = spec.motionProfile;
+            this.onAdjusted = spec.onAdjusted;
+            this.onAdjusting = spec.onAdjusting;
+            this.onRampStep = spec.onRampStep;
+            this.onTargetSet = spec.onTargetSet;
+            this.opacity = spec.opacity;
+            this.padding = spec.padding;
+            this.prefHeight = spec.prefHeight;
+            this.prefSizeHeight = spec.prefSizeHeight;
+            this.prefSizeWidth = spec.prefSizeWidth;
+            this.prefWidth = spec.prefWidth;
+            this.rampRate = spec.rampRate;
+            this.renderingMode = spec.renderingMode;
+            this.scaleX = spec.scaleX;
+            this.scaleY = spec.scaleY;
+            this.selected = spec.selected;
+            this.selectionColor = spec.selectionColor;
+            this.set = spec.set;
+            this.tagColor = spec.tagColor;
+            this.tagVisible = spec.tagVisible;
+            this.targetValue = spec.targetValue;
+            this.targetValueAlwaysVisible = spec.targetValueAlwaysVisible;
+            this.textColor = spec.textColor;
+            this.translateX = spec.translateX;
+            this.translateY = spec.translateY;
+            this.unit = spec.unit;
+            this.zeroDetentEnabled = spec.zeroDetentEnabled;
+
+        }
+
+        /**
+         * @return A new, immutable {@link KnobSpec} with the properties set so
+         *         far.
+         */
+        public KnobSpec build() {
+            return new KnobSpec(this);
+        }
+
+        public Builder backgroundColor( final Color value ) {
+
+            backgroundColor = value;
+            set |= BACKGROUND_COLOR;
+
+            return this;
+
+        }
+
+        public Builder color( final Color value ) {
+
+            color = value;
+            set |= COLOR;
+
+            return this;
+
+        }
+
+        public Builder currentValue( final double value ) {
+
+            currentValue = value;
+            set |= CURRENT_VALUE;
+
+            return this;
+
+        }
+
+        public Builder currentValueColor( final Color value ) {
+
+            currentValueColor = value;
+            set |= CURRENT_VALUE_COLOR;
+
+            return this;
+
+        }
+
+        public Builder decimals( final int value ) {
+
+            decimals = value;
+            set |= DECIMALS;
+
+            return this;
+
+        }
+
+        public Builder dragDisabled( final boolean value ) {
+
+            dragDisabled = value;
+            set |= DRAG_DISABLED;
+
+            return this;
+
+        }
+
+        public Builder dragStep( final double value ) {
+
+            dragStep = value;
+            set |= DRAG_STEP;
+
+            return this;
+
+        }
+
+        public Builder eventPolicy( final Knob.EventPolicy value ) {
+
+            eventPolicy = value;
+            set |= EVENT_POLICY;
+
+            return this;
+
+        }
+
+        public Builder extremaVisible( final boolean value ) {
+
+            extremaVisible = value;
+            set |= EXTREMA_VISIBLE;
+
+            return this;
+
+        }
+
+        public Builder gradientStops( final Stop... stops ) {
+            return gradientStops(Arrays.asList(stops));
+        }
+
+        public Builder gradientStops( final List<Stop> stops ) {
+
+            gradientStops = ( stops == null ) ? null : Collections.unmodifiableList(new ArrayList<>(stops));
+            set |= GRADIENT_STOPS;
+
+            return this;
+
+        }
+
+        public Builder id( final String value ) {
+
+            id = value;
+            set |= ID;
+
+            return this;
+
+        }
+
+        public Builder indicatorColor( final Color value ) {
+
+            indicatorColor = value;
+            set |= INDICATOR_COLOR;
+
+            return this;
+
+        }
+
+        public Builder layoutX( final double value ) {
+
+            layoutX = value;
+            set |= LAYOUT_X;
+
+            return this;
+
+        }
+
+        public Builder layoutY( final double value ) {
+
+            layoutY = value;
+            set |= LAYOUT_Y;
+
+            return this;
+
+        }
+
+        public Builder maxEventRate( final double value ) {
+
+            maxEventRate = value;
+            set |= MAX_EVENT_RATE;
+
+            return this;
+
+        }
+
+        public Builder maxHeight( final double value ) {
+
+            maxHeight = value;
+            set |= MAX_HEIGHT;
+
+            return this;
+
+        }
+
+        public Builder maxSize( final double width, final double height ) {
+
+            maxSizeWidth = width;
+            maxSizeHeight = height;
+            set |= MAX_SIZE;
+
+            return this;
+
+        }
+
+        public Builder maxValue( final double value ) {
+
+            maxValue = value;
+            set |= MAX_VALUE;
+
+            return this;
+
+        }
+
+        public Builder maxWidth( final double value ) {
+
+            maxWidth = value;
+            set |= MAX_WIDTH;
+
+            return this;
+
+        }
+
+        public Builder minHeight( final double value ) {
+
+            minHeight = value;
+            set |= MIN_HEIGHT;
+
+            return this;
+
+        }
+
+        public Builder minSize( final double width, final double height ) {
+
+            minSizeWidth = width;
+            minSizeHeight = height;
+            set |= MIN_SIZE;
+
+            return this;
+
+        }
+
+        public Builder minValue( final double value ) {
+
+            minValue = value;
+            set |= MIN_VALUE;
+
+            return this;
+
+        }
+
+        public Builder minWidth( final double value ) {
+
+            minWidth = value;
+            set |= MIN_WIDTH;
+
+            return this;
+
+        }
+
+        public Builder motionProfile( final MotionProfile value ) {
+
+            motionProfile = value;
+            set |= MOTION_PROFILE;
+
+            return this;
+
+        }
+
+        public Builder onAdjusted( final EventHandler<KnobEvent> value ) {
+
+            onAdjusted = value;
+            set |= ON_ADJUSTED;
+
+            return this;
+
+        }
+
+        public Builder onAdjusting( final EventHandler<KnobEvent> value ) {
+
+            onAdjusting = value;
+            set |= ON_ADJUSTING;
+
+            return this;
+
+        }
+
+        public Builder onRampStep( final EventHandler<KnobEvent> value ) {
+
+            onRampStep = value;
+            set |= ON_RAMP_STEP;
+
+            return this;
+
+        }
+
+        public Builder onTargetSet( final EventHandler<KnobEvent> value ) {
+
+            onTargetSet = value;
+            set |= ON_TARGET_SET;
+
+            return this;
+
+        }
+
+        public Builder opacity( final double value ) {
+
+            opacity = value;
+            set |= OPACITY;
+
+            return this;
+
+        }
+
+        public Builder padding( final double topRightBottomLeft ) {
+            return padding(new Insets(topRightBottomLeft));
+        }
+
+        public Builder padding( final double top, final double right, final double bottom, final double left ) {
+            return padding(new Insets(top, right, bottom, left));
+        }
+
+        public Builder padding( final Insets insets ) {
+
+            padding = insets;
+            set |= PADDING;
+
+            return this;
+
+        }
+
+        public Builder prefHeight( final double value ) {
+
+            prefHeight = value;
+            set |= PREF_HEIGHT;
+
+            return this;
+
+        }
+
+        public Builder prefSize( final double width, final double height ) {
+
+            prefSizeWidth = width;
+            prefSizeHeight = height;
+            set |= PREF_SIZE;
+
+            return this;
+
+        }
+
+        public Builder prefWidth( final double value ) {
+
+            prefWidth = value;
+            set |= PREF_WIDTH;
+
+            return this;
+
+        }
+
+        public Builder rampRate( final double value ) {
+
+            rampRate = value;
+            set |= RAMP_RATE;
+
+            return this;
+
+        }
+
+        public Builder renderingMode( final Knob.RenderingMode value ) {
+
+            renderingMode = value;
+            set |= RENDERING_MODE;
+
+            return this;
+
+        }
+
+        public Builder scaleX( final double value ) {
+
+            scaleX = value;
+            set |= SCALE_X;
+
+            return this;
+
+        }
+
+        public Builder scaleY( final double value ) {
+
+            scaleY = value;
+            set |= SCALE_Y;
+
+            return this;
+
+        }
+
+        public Builder selected( final boolean value ) {
+
+            selected = value;
+            set |= SELECTED;
+
+            return this;
+
+        }
+
+        public Builder selectionColor( final Color value ) {
+
+            selectionColor = value;
+            set |= SELECTION_COLOR;
+
+            return this;
+
+        }
+
+        public Builder tagColor( final Color value ) {
+
+            tagColor = value;
+            set |= TAG_COLOR;
+
+            return this;
+
+        }
+
+        public Builder tagVisible( final boolean value ) {
+
+            tagVisible = value;
+            set |= TAG_VISIBLE;
+
+            return this;
+
+        }
+
+        public Builder targetValue( final double value ) {
+
+            targetValue = value;
+            set |= TARGET_VALUE;
+
+            return this;
+
+        }
+
+        public Builder targetValueAlwaysVisible( final boolean value ) {
+
+            targetValueAlwaysVisible = value;
+            set |= TARGET_VALUE_ALWAYS_VISIBLE;
+
+            return this;
+
+        }
+
+        public Builder textColor( final Color value ) {
+
+            textColor = value;
+            set |= TEXT_COLOR;
+
+            return this;
+
+        }
+
+        public Builder translateX( final double value ) {
+
+            translateX = value;
+            set |= TRANSLATE_X;
+
+            return this;
+
+        }
+
+        public Builder translateY( final double value ) {
+
+            translateY = value;
+            set |= TRANSLATE_Y;
+
+            return this;
+
+        }
+
+        public Builder unit( final String value ) {
+
+            unit = value;
+            set |= UNIT;
+
+            return this;
+
+        }
+
+        public Builder zeroDetentEnabled( final boolean value ) {
+
+            zeroDetentEnabled = value;
+            set |= ZERO_DETENT_ENABLED;
+
+            return this;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,130 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+
+/**
+ * The list of knobs periodically advanced by a shared engine (e.g.
+ * {@link KnobAnimator} and {@link KnobRamper}). Knobs are removed when their
+ * step function reports completion, or throws an exception.
+ * <p>
+ * All methods must be called on the JavaFX Application Thread.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class KnobStepList {
+
+    private final List<Knob> knobs = new ArrayList<>();
+    private final Consumer<Knob> stop;
+    private final Step step;
+
+    /**
+     * @param step The function advancing a knob.
+     * @param stop The function called on a knob whose step function threw an
+     *             exception, to mark it as no more advanced.
+     */
+    KnobStepList( final Step step, final Consumer<Knob> stop ) {
+        this.step = step;
+        this.stop = stop;
+    }
+
+    /**
+     * @param knob The knob to be added.
+     * @return {@code true} if the list was empty, i.e. the engine must be
+     *         started.
+     */
+    boolean add( final Knob knob ) {
+
+        knobs.add(knob);
+
+        return knobs.size() == 1;
+
+    }
+
+    boolean isEmpty() {
+        return knobs.isEmpty();
+    }
+
+    /**
+     * Advance all the knobs, removing the ones whose step is completed.
+     * Knobs added while stepping (e.g. by an event handler changing another
+     * knob) will be advanced on the next step.
+     *
+     * @param dt The time elapsed since the previous step, in seconds.
+     */
+    void step( final double dt ) {
+
+        final int size = knobs.size();
+        int kept = 0;
+
+        for ( int i = 0; i < size; i++ ) {
+
+            final Knob knob = knobs.get(i);
+            boolean running;
+
+            try {
+                running = step.advance(knob, dt);
+            } catch ( RuntimeException ex ) {
+
+                running = false;
+
+                stop.accept(knob);
+
+                Thread thread = Thread.currentThread();
+
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+
+            }
+
+            if ( running ) {
+                knobs.set(kept++, knob);
+            }
+
+        }
+
+        for ( int i = size; i < knobs.size(); i++ ) {
+            knobs.set(kept++, knobs.get(i));
+        }
+
+        knobs.subList(kept, knobs.size()).clear();
+
+    }
+
+    /**
+     * The function advancing a knob by a time step.
+     */
+    @FunctionalInterface
+    interface Step {
+
+        /**
+         * @param knob The knob to be advanced.
+         * @param dt   The time elapsed since the previous step, in seconds.
+         * @return {@code true} if the knob must be advanced again on the
+         *         next step.
+         */
+        boolean advance( Knob knob, double dt );
+
+    }
+
+}
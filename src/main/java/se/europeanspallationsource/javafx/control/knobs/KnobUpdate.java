@@ -0,0 +1,93 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+/**
+ * The set of value changes applied atomically by
+ * {@link Knob#update(java.util.function.Consumer)}. It is initialized with
+ * the current values of the knob, and only the values set here are changed.
+ * <pre>
+ * knob.update(u -&gt; u.minValue(-200).maxValue(200).currentValue(0).targetValue(0));</pre>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+public final class KnobUpdate {
+
+    double currentValue;
+    double maxValue;
+    double minValue;
+    double targetValue;
+
+    KnobUpdate( final Knob knob ) {
+        this.currentValue = knob.getCurrentValue();
+        this.maxValue = knob.getMaxValue();
+        this.minValue = knob.getMinValue();
+        this.targetValue = knob.getTargetValue();
+    }
+
+    public KnobUpdate currentValue( final double value ) {
+
+        currentValue = value;
+
+        return this;
+
+    }
+
+    public double getCurrentValue() {
+        return currentValue;
+    }
+
+    public double getMaxValue() {
+        return maxValue;
+    }
+
+    public double getMinValue() {
+        return minValue;
+    }
+
+    public double getTargetValue() {
+        return targetValue;
+    }
+
+    public KnobUpdate maxValue( final double value ) {
+
+        maxValue = value;
+
+        return this;
+
+    }
+
+    public KnobUpdate minValue( final double value ) {
+
+        minValue = value;
+
+        return this;
+
+    }
+
+    public KnobUpdate targetValue( final double value ) {
+
+        targetValue = value;
+
+        return this;
+
+    }
+
+}
@@ -0,0 +1,69 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import static se.europeanspallationsource.javafx.control.knobs.Knob.ANGLE_RANGE;
+import static se.europeanspallationsource.javafx.control.knobs.Knob.BAR_START_ANGLE;
+
+
+/**
+ * The angles (in degrees) depending on the knob values: start, length and
+ * opacity of the current value bar, and rotation of the target indicator.
+ * They are computed together by {@link #compute(double, double, double, double, boolean)},
+ * and stored into this (reused) instance, without allocations.
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class KnobValueGeometry {
+
+    double arcLength = 0;
+    double arcOpacity = 0.6666;
+    double arcStart = BAR_START_ANGLE;
+    double indicatorAngle = - ANGLE_RANGE * 0.5;
+
+    /**
+     * @param min        The knob minimum value.
+     * @param max        The knob maximum value.
+     * @param current    The knob current value.
+     * @param target     The knob target value.
+     * @param zeroDetent Whether the zero detent is enabled, i.e. the current
+     *                   value bar starts at 0 instead of at the minimum value.
+     */
+    void compute( final double min, final double max, final double current, final double target, final boolean zeroDetent ) {
+
+        final double angleStep = ANGLE_RANGE / ( max - min );
+        final boolean detent = zeroDetent && min < 0;
+        final double localMin = detent ? Math.min(0, max) : min;
+        final double length = angleStep * ( localMin - current );
+
+        if ( length == 0 ) {
+            arcLength = angleStep * ( min - max ) / 10000;
+            arcOpacity = 0.6666;
+        } else {
+            arcLength = length;
+            arcOpacity = 1.0;
+        }
+
+        arcStart = detent ? BAR_START_ANGLE + Math.max(angleStep * min, - ANGLE_RANGE) : BAR_START_ANGLE;
+        indicatorAngle = ( target - min ) * angleStep - ANGLE_RANGE * 0.5;
+
+    }
+
+}
@@ -0,0 +1,89 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * A thread-safe, coalescing feed of values for a {@link Knob} property.
+ * <p>
+ * Values can be pushed from any thread at any rate: only the latest one is
+ * kept (lock-free), and it is applied on the JavaFX Application Thread at
+ * most once per pulse. Intermediate values are silently dropped.</p>
+ * <pre>
+ * KnobValueSink sink = knob.getCurrentValueSink();
+ *
+ * monitor.addListener(value -&gt; sink.accept(value));
+ * </pre>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+public final class KnobValueSink implements DoubleConsumer {
+
+    private final Runnable flusher = this::flush;
+    private final AtomicLong latest = new AtomicLong(Double.doubleToRawLongBits(0.0));
+    private final AtomicBoolean pending = new AtomicBoolean(false);
+    private final DoubleConsumer target;
+
+    /**
+     * @param target The consumer receiving the coalesced values on the JavaFX
+     *               Application Thread (e.g. {@code knob::setCurrentValue}).
+     */
+    public KnobValueSink( final DoubleConsumer target ) {
+        this.target = Objects.requireNonNull(target, "Null target.");
+    }
+
+    /**
+     * Push a new value. This method can be called from any thread.
+     *
+     * @param value The new value.
+     */
+    @Override
+    public void accept( final double value ) {
+
+        latest.set(Double.doubleToRawLongBits(value));
+
+        if ( pending.compareAndSet(false, true) ) {
+            PulseScheduler.schedule(flusher);
+        }
+
+    }
+
+    /**
+     * @return {@code true} if a value was pushed but not yet applied.
+     */
+    public boolean isPending() {
+        return pending.get();
+    }
+
+    private void flush() {
+
+        //  The flag must be reset before reading the value, otherwise a value
+        //  pushed in between could be lost.
+        pending.set(false);
+        target.accept(Double.longBitsToDouble(latest.get()));
+
+    }
+
+}
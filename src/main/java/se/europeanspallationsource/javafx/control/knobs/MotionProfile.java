@@ -0,0 +1,177 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+/**
+ * How the current value of a {@link Knob} is moved toward its target value
+ * by the shared animation engine (see {@link Knob#motionProfileProperty()}).
+ * <p>
+ * At each pulse the profile advances the motion {@link State} by the elapsed
+ * time. The animation ends when the value reaches the target and the
+ * velocity is zero.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@FunctionalInterface
+public interface MotionProfile {
+
+    /**
+     * A damped motion reaching the target without overshooting, quickly at
+     * the beginning and slowing down while approaching it.
+     *
+     * @param smoothTime The approximate time, in seconds, to reach the
+     *                   target.
+     * @return A critically damped motion profile.
+     */
+    static MotionProfile criticallyDamped( final double smoothTime ) {
+
+        if ( smoothTime <= 0 ) {
+            throw new IllegalArgumentException("Non-positive smoothTime.");
+        }
+
+        final double omega = 2 / smoothTime;
+
+        return ( state, target, range, dt ) -> {
+
+            //  Approximation of exp(-omega * dt), as in common game engines.
+            final double x = omega * dt;
+            final double decay = 1 / ( 1 + x + 0.48 * x * x + 0.235 * x * x * x );
+            final double delta = state.value - target;
+            final double temp = ( state.velocity + omega * delta ) * dt;
+
+            state.velocity = ( state.velocity - omega * temp ) * decay;
+            state.value = target + ( delta + temp ) * decay;
+
+            //  No overshooting.
+            if ( ( delta > 0 ) == ( state.value < target ) ) {
+                state.value = target;
+                state.velocity = 0;
+            }
+
+        };
+
+    }
+
+    /**
+     * A motion at constant speed, relative to the knob range.
+     *
+     * @param rangeTime The time, in seconds, needed to move across the whole
+     *                  knob range.
+     * @return A linear motion profile.
+     */
+    static MotionProfile linear( final double rangeTime ) {
+
+        if ( rangeTime <= 0 ) {
+            throw new IllegalArgumentException("Non-positive rangeTime.");
+        }
+
+        return ( state, target, range, dt ) -> {
+
+            final double step = range * dt / rangeTime;
+            final double delta = target - state.value;
+
+            state.velocity = 0;
+            state.value = ( Math.abs(delta) <= step ) ? target : state.value + Math.copySign(step, delta);
+
+        };
+
+    }
+
+    /**
+     * A motion with limited speed and acceleration, in value units, like the
+     * one of a power supply ramping its output: it accelerates, moves at the
+     * maximum speed and decelerates to stop on the target.
+     *
+     * @param maxSpeed        The maximum speed, in units per second.
+     * @param maxAcceleration The maximum acceleration, in units per square
+     *                        second.
+     * @return A rate-limited motion profile.
+     */
+    static MotionProfile rateLimited( final double maxSpeed, final double maxAcceleration ) {
+
+        if ( maxSpeed <= 0 || maxAcceleration <= 0 ) {
+            throw new IllegalArgumentException("Non-positive maxSpeed or maxAcceleration.");
+        }
+
+        return ( state, target, range, dt ) -> {
+
+            final double delta = target - state.value;
+            final double distance = Math.abs(delta);
+
+            //  The highest speed still allowing to stop on the target.
+            final double stoppingSpeed = Math.sqrt(2 * maxAcceleration * distance);
+            final double desired = Math.copySign(Math.min(maxSpeed, stoppingSpeed), delta);
+            final double dv = maxAcceleration * dt;
+
+            state.velocity = Math.max(state.velocity - dv, Math.min(state.velocity + dv, desired));
+
+            final double step = state.velocity * dt;
+
+            if ( distance <= Math.abs(step) || distance <= maxAcceleration * dt * dt ) {
+                state.value = target;
+                state.velocity = 0;
+            } else {
+                state.value += step;
+            }
+
+        };
+
+    }
+
+    /**
+     * Advance the given motion state toward the target value.
+     *
+     * @param state  The motion state to be updated.
+     * @param target The value to be reached.
+     * @param range  The knob range (maximum minus minimum value).
+     * @param dt     The time elapsed since the previous call, in seconds.
+     */
+    void advance( State state, double target, double range, double dt );
+
+    /**
+     * The mutable state of a knob motion.
+     */
+    @SuppressWarnings( "PublicInnerClass" )
+    final class State {
+
+        double velocity = 0;
+        double value = 0;
+
+        State() {
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public void setValue( double value ) {
+            this.value = value;
+        }
+
+        public double getVelocity() {
+            return velocity;
+        }
+
+        public void setVelocity( double velocity ) {
+            this.velocity = velocity;
+        }
+
+    }
+
+}
@@ -0,0 +1,125 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+
+/**
+ * Lock-free, coalescing set of the updates a {@link Knob} has to perform
+ * once initialized.
+ * <p>
+ * Each kind of update is a bit in an atomic mask: posting an update already
+ * pending is a no-op (and it is counted as coalesced). Updates do not carry
+ * values: when drained they are expected to read the current state of the
+ * knob, so the last writer always wins.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class PendingUpdates {
+
+    private static final AtomicLong COALESCED = new AtomicLong(0);
+    private static final Update[] UPDATES = Update.values();
+
+    /**
+     * @return The total number of updates that were coalesced with an already
+     *         pending one, for all the knobs.
+     */
+    static long getCoalescedCount() {
+        return COALESCED.get();
+    }
+
+    private final AtomicInteger mask = new AtomicInteger(0);
+
+    /**
+     * Apply all the pending updates, in the order they are declared in
+     * {@link Update}, and clear them.
+     *
+     * @param action The action applying a single update.
+     */
+    void drain( final Consumer<Update> action ) {
+
+        final int updates = mask.getAndSet(0);
+
+        if ( updates != 0 ) {
+            for ( Update update : UPDATES ) {
+                if ( ( updates & update.bit ) != 0 ) {
+                    action.accept(update);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * @return {@code true} if there are no pending updates.
+     */
+    boolean isEmpty() {
+        return mask.get() == 0;
+    }
+
+    /**
+     * Mark the given {@code update} as pending.
+     *
+     * @param update The update to be performed.
+     * @return {@code true} if no other update was pending before this call.
+     */
+    boolean post( final Update update ) {
+
+        int current;
+
+        do {
+
+            current = mask.get();
+
+            if ( ( current & update.bit ) != 0 ) {
+
+                COALESCED.incrementAndGet();
+
+                return false;
+
+            }
+
+        } while ( !mask.compareAndSet(current, current | update.bit) );
+
+        return current == 0;
+
+    }
+
+    /**
+     * The kind of updates, in the order they must be applied.
+     */
+    enum Update {
+
+        RESIZE,
+        BACKGROUND,
+        TEXT,
+        TEXT_MIN,
+        TEXT_MAX,
+        TARGET_TEXT,
+        UNIT_TEXT;
+
+        private final int bit = 1 << ordinal();
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+
+/**
+ * A single {@link AnimationTimer} shared by all knobs, running the tasks
+ * scheduled from any thread on the next JavaFX pulse.
+ * <p>
+ * The timer is started only when there is something to do, and stopped as
+ * soon as the task queue is drained, so that idle screens do not request
+ * pulses.</p>
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+@SuppressWarnings( "ClassWithoutLogger" )
+final class PulseScheduler {
+
+    private static final AtomicBoolean RUNNING = new AtomicBoolean(false);
+    private static final Queue<Runnable> TASKS = new ConcurrentLinkedQueue<>();
+    private static final AnimationTimer TIMER = new AnimationTimer() {
+        @Override
+        public void handle( long now ) {
+            runPendingTasks();
+        }
+    };
+
+    /**
+     * Schedule the given {@code task} to be run on the JavaFX Application
+     * Thread during the next pulse. This method can be called from any thread.
+     *
+     * @param task The {@link Runnable} to be executed.
+     */
+    static void schedule( final Runnable task ) {
+
+        TASKS.offer(task);
+
+        if ( RUNNING.compareAndSet(false, true) ) {
+            if ( Platform.isFxApplicationThread() ) {
+                TIMER.start();
+            } else {
+                Platform.runLater(TIMER::start);
+            }
+        }
+
+    }
+
+    /**
+     * Run all the tasks queued before this pulse. Tasks scheduled while
+     * draining (e.g. by a task re-scheduling itself) will be executed on the
+     * next pulse.
+     */
+    private static void runPendingTasks() {
+
+        //  A new instance for each pulse: a non-capturing lambda could be
+        //  cached, and a stale marker would stop the drain too early.
+        final Runnable marker = new Runnable() {
+            @Override
+            public void run() {
+            }
+        };
+
+        TASKS.offer(marker);
+
+        Runnable task;
+
+        while ( ( task = TASKS.poll() ) != null && task != marker ) {
+            try {
+                task.run();
+            } catch ( RuntimeException ex ) {
+
+                Thread thread = Thread.currentThread();
+
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+
+            }
+        }
+
+        if ( TASKS.isEmpty() ) {
+
+            RUNNING.set(false);
+            TIMER.stop();
+
+            //  A task could have been queued between the emptiness check
+            //  and the RUNNING flag reset.
+            if ( !TASKS.isEmpty() && RUNNING.compareAndSet(false, true) ) {
+                TIMER.start();
+            }
+
+        }
+
+    }
+
+    private PulseScheduler() {
+    }
+
+}
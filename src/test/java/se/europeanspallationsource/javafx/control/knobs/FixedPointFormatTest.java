@@ -0,0 +1,168 @@
+/**
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+ * Copyright (C) 2017 by European Spallation Source ERIC.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package se.europeanspallationsource.javafx.control.knobs;
+
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.fail;
+
+
+/**
+ * Checks that {@link FixedPointFormat} produces the same strings as
+ * {@link String#format}, including rounding ties, negative zero, non-finite
+ * and very large values, and locale-specific separators and digits.
+ * {@link FixedPointFormat#format(double)} is checked, sharing with
+ * {@link FixedPointFormat#apply(javafx.scene.text.Text, double)} the same
+ * formatting code, without requiring the JavaFX toolkit.
+ *
+ * @author Claudio Rosati, European Spallation Source ERIC
+ * @version 1.0.0 17 Oct 2026
+ */
+public class FixedPointFormatTest {
+
+    private static final Locale[] LOCALES = {
+        Locale.US,
+        Locale.ITALY,
+        Locale.GERMANY,
+        Locale.FRANCE,
+        Locale.forLanguageTag("ar-EG"),
+        Locale.forLanguageTag("hi-IN-u-nu-deva"),
+        Locale.forLanguageTag("th-TH-u-nu-thai")
+    };
+    private static final int RANDOM_SAMPLES = 10000;
+    private static final double[] SPECIAL_VALUES = {
+        0.0,
+        -0.0,
+        0.5,
+        -0.5,
+        1.5,
+        2.5,
+        0.125,
+        0.375,
+        1.005,
+        1.015,
+        2.675,
+        -1.005,
+        0.0049,
+        -0.0049,
+        0.00049999,
+        -0.0000001,
+        99.995,
+        999999.9999995,
+        123456789.123456,
+        1E14,
+        1E15,
+        1E20,
+        -1E20,
+        Double.MIN_VALUE,
+        -Double.MIN_VALUE,
+        Double.MAX_VALUE,
+        -Double.MAX_VALUE,
+        Double.NaN,
+        Double.POSITIVE_INFINITY,
+        Double.NEGATIVE_INFINITY
+    };
+
+    private Locale defaultLocale;
+
+    @Before
+    public void saveLocale() {
+        defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+    }
+
+    @After
+    public void restoreLocale() {
+        Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+    }
+
+    @Test
+    public void testFormatMatchesStringFormat() {
+
+        final List<Double> values = sampleValues();
+
+        for ( Locale locale : LOCALES ) {
+
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+
+            for ( int decimals = 0; decimals <= 6; decimals++ ) {
+
+                final FixedPointFormat format = new FixedPointFormat(decimals);
+                final String pattern = "%." + decimals + "f";
+
+                for ( double value : values ) {
+
+                    final String expected = String.format(pattern, value);
+                    final String actual = format.format(value);
+
+                    //  The message is built only on failure.
+                    if ( !expected.equals(actual) ) {
+                        fail(MessageFormat.format(
+                            "Value {0} with {1} decimals in locale {2}: expected \"{3}\", got \"{4}\".",
+                            Double.toString(value),
+                            decimals,
+                            locale,
+                            expected,
+                            actual
+                        ));
+                    }
+
+                }
+
+            }
+
+        }
+
+    }
+
+    /**
+     * @return The special values, plus random ones over many magnitudes, with
+     *         both signs, and exactly at rounding ties.
+     */
+    private static List<Double> sampleValues() {
+
+        final List<Double> values = new ArrayList<>(SPECIAL_VALUES.length + 2 * RANDOM_SAMPLES);
+        final Random random = new Random(20171017L);
+
+        for ( double value : SPECIAL_VALUES ) {
+            values.add(value);
+        }
+
+        for ( int i = 0; i < RANDOM_SAMPLES; i++ ) {
+
+            final double magnitude = Math.pow(10, random.nextInt(22) - 8);
+            final double value = ( random.nextBoolean() ? 1 : -1 ) * random.nextDouble() * magnitude;
+            final long power = (long) Math.pow(10, random.nextInt(7));
+
+            values.add(value);
+            //  Values ending with a 5 right after the last displayed digit.
+            values.add(( Math.floor(value * power) + 0.5 ) / power);
+
+        }
+
+        return values;
+
+    }
+
+}